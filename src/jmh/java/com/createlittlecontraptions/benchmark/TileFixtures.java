@@ -0,0 +1,91 @@
+package com.createlittlecontraptions.benchmark;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import team.creative.littletiles.common.block.little.tile.LittleTile;
+import team.creative.littletiles.common.block.little.tile.collection.LittleCollection;
+import team.creative.littletiles.common.block.little.tile.parent.BlockParentCollection;
+import team.creative.littletiles.common.grid.LittleGrid;
+import team.creative.littletiles.common.math.box.LittleBox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared setup for the benchmarks: boots the vanilla registries once and builds captured BETiles
+ * NBT of a given size, laid out like what a contraption stores in MovementContext.blockEntityData.
+ */
+public final class TileFixtures {
+
+    public static final int GRID = 16;
+
+    private static boolean bootstrapped = false;
+
+    private TileFixtures() {
+    }
+
+    public static synchronized void bootstrap() {
+        if (!bootstrapped) {
+            SharedConstants.tryDetectVersion();
+            Bootstrap.bootStrap();
+            bootstrapped = true;
+        }
+    }
+
+    public static RegistryAccess provider() {
+        bootstrap();
+        return RegistryAccess.fromRegistryOfRegistries(BuiltInRegistries.REGISTRY);
+    }
+
+    /**
+     * Block entity NBT ({@code grid} + {@code content}) with {@code tileCount} single-box tiles made of a
+     * few vanilla blocks. The same seed always yields the same compound.
+     */
+    public static CompoundTag blockEntityData(int tileCount, long seed) {
+        bootstrap();
+        LittleGrid grid = LittleGrid.get(GRID);
+        BlockState[] states = {
+            Blocks.STONE.defaultBlockState(),
+            Blocks.OAK_PLANKS.defaultBlockState(),
+            Blocks.GLASS.defaultBlockState(),
+            Blocks.WHITE_WOOL.defaultBlockState()
+        };
+
+        BlockParentCollection tiles = new BlockParentCollection(null, false);
+        Random random = new Random(seed);
+        for (LittleBox box : boxes(tileCount, random)) {
+            tiles.add(new LittleTile(states[random.nextInt(states.length)], -1, box));
+        }
+
+        CompoundTag content = new CompoundTag();
+        content.put("tiles", LittleCollection.save(tiles));
+
+        CompoundTag nbt = new CompoundTag();
+        grid.set(nbt);
+        nbt.put("content", content);
+        return nbt;
+    }
+
+    /**
+     * Random boxes inside one block on the fixture grid, one to four cells wide per axis.
+     */
+    public static List<LittleBox> boxes(int count, Random random) {
+        List<LittleBox> boxes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int x = random.nextInt(GRID);
+            int y = random.nextInt(GRID);
+            int z = random.nextInt(GRID);
+            boxes.add(new LittleBox(x, y, z,
+                Math.min(GRID, x + 1 + random.nextInt(4)),
+                Math.min(GRID, y + 1 + random.nextInt(4)),
+                Math.min(GRID, z + 1 + random.nextInt(4))));
+        }
+        return boxes;
+    }
+}
@@ -0,0 +1,63 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import com.createlittlecontraptions.benchmark.TileFixtures;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.nbt.CompoundTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning captured BETiles NBT into a tile collection, which happens once per moving block
+ * (see LittleTilesDataCache), and of the cheap validity check done before it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+
+    /** Small, medium and huge tile blocks. */
+    @Param({"8", "256", "4096"})
+    public int tiles;
+
+    private CompoundTag blockEntityData;
+    private CompoundTag emptyContent;
+    private RegistryAccess provider;
+
+    @Setup
+    public void setup() {
+        provider = TileFixtures.provider();
+        blockEntityData = TileFixtures.blockEntityData(tiles, 42L);
+        emptyContent = new CompoundTag();
+        emptyContent.put("content", new CompoundTag());
+    }
+
+    @Benchmark
+    public LittleTilesAPIFacade.ParsedLittleTilesData parseStructuresFromNBT() {
+        return LittleTilesAPIFacade.parseStructuresFromNBT(blockEntityData, null, BlockPos.ZERO, provider);
+    }
+
+    @Benchmark
+    public boolean hasValidLittleTilesData() {
+        return LittleTilesNBTHelper.hasValidLittleTilesData(blockEntityData);
+    }
+
+    @Benchmark
+    public boolean hasValidLittleTilesDataEmptyContent() {
+        return LittleTilesNBTHelper.hasValidLittleTilesData(emptyContent);
+    }
+}
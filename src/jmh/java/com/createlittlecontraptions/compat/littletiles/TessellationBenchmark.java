@@ -0,0 +1,143 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import com.createlittlecontraptions.benchmark.TileFixtures;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import team.creative.littletiles.client.render.tile.LittleRenderBox;
+import team.creative.littletiles.common.grid.LittleGrid;
+import team.creative.littletiles.common.math.box.LittleBox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tessellation of recorded LittleRenderBox lists: baking them into mesh vertex data (done once per
+ * block) and re-issuing a baked mesh into a VertexConsumer (done every frame).
+ * The consumer is a stub that only feeds values to a Blackhole, so no GL state is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TessellationBenchmark {
+
+    @Param({"64", "1024", "16384"})
+    public int boxes;
+
+    private List<LittleRenderBox> renderBoxes;
+    private LittleTilesMeshBaker.FaceAppearance[] faces;
+    private IntArrayList vertexData;
+    private BakedLittleTilesMesh mesh;
+    private PoseStack.Pose pose;
+
+    @Setup
+    public void setup() {
+        TileFixtures.bootstrap();
+        LittleGrid grid = LittleGrid.get(TileFixtures.GRID);
+        renderBoxes = new ArrayList<>(boxes);
+        for (LittleBox box : TileFixtures.boxes(boxes, new Random(42L))) {
+            renderBoxes.add(new LittleRenderBox(grid, box));
+        }
+
+        faces = new LittleTilesMeshBaker.FaceAppearance[6];
+        for (int i = 0; i < faces.length; i++) {
+            faces[i] = new LittleTilesMeshBaker.FaceAppearance(0.25f, 0.3125f, 0.5f, 0.5625f, -1);
+        }
+
+        vertexData = new IntArrayList();
+        bake();
+        int[][] layers = new int[RenderType.chunkBufferLayers().size()][];
+        layers[0] = vertexData.toIntArray();
+        mesh = new BakedLittleTilesMesh(layers);
+        pose = new PoseStack().last();
+    }
+
+    /**
+     * The baked mesh lives off-heap and is not collected with the benchmark state.
+     */
+    @TearDown
+    public void tearDown() {
+        mesh.release();
+    }
+
+    @Benchmark
+    public IntArrayList bake() {
+        vertexData.clear();
+        for (LittleRenderBox box : renderBoxes) {
+            LittleTilesMeshBaker.emitBox(vertexData, box, faces);
+        }
+        return vertexData;
+    }
+
+    @Benchmark
+    public void renderBakedMesh(Blackhole blackhole) {
+        VertexConsumer consumer = new BlackholeConsumer(blackhole);
+        MultiBufferSource buffers = renderType -> consumer;
+        mesh.render(pose, buffers, LightTexture.FULL_BRIGHT, OverlayTexture.NO_OVERLAY);
+    }
+
+    private record BlackholeConsumer(Blackhole blackhole) implements VertexConsumer {
+        @Override
+        public VertexConsumer addVertex(float x, float y, float z) {
+            blackhole.consume(x);
+            blackhole.consume(y);
+            blackhole.consume(z);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setColor(int red, int green, int blue, int alpha) {
+            blackhole.consume(red | green << 8 | blue << 16 | alpha << 24);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv(float u, float v) {
+            blackhole.consume(u);
+            blackhole.consume(v);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv1(int u, int v) {
+            blackhole.consume(u | v << 16);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv2(int u, int v) {
+            blackhole.consume(u | v << 16);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setNormal(float x, float y, float z) {
+            blackhole.consume(x);
+            blackhole.consume(y);
+            blackhole.consume(z);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.createlittlecontraptions.utils;
+
+import com.createlittlecontraptions.benchmark.TileFixtures;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LittleTilesBlockClassifier against the name-matching check it replaced, over every registered
+ * block state. Only vanilla blocks are registered outside the game, so this measures lookup cost,
+ * not classification results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClassifierBenchmark {
+
+    private BlockState[] states;
+
+    @Setup
+    public void setup() {
+        TileFixtures.bootstrap();
+        List<BlockState> all = new ArrayList<>();
+        Block.BLOCK_STATE_REGISTRY.forEach(all::add);
+        states = all.toArray(new BlockState[0]);
+        LittleTilesBlockClassifier.build();
+    }
+
+    @Benchmark
+    public int bitsetClassifier() {
+        int count = 0;
+        for (BlockState state : states) {
+            if (LittleTilesBlockClassifier.isLittleTilesBlock(state)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int legacyNameMatching() {
+        int count = 0;
+        for (BlockState state : states) {
+            if (legacyIsLittleTilesBlock(state)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The check that used to be copied across the commands and compat classes.
+     */
+    private static boolean legacyIsLittleTilesBlock(BlockState state) {
+        String blockName = state.getBlock().toString().toLowerCase();
+        if (blockName.contains("littletiles") || blockName.contains("little")) {
+            return true;
+        }
+        ResourceLocation registryName = BuiltInRegistries.BLOCK.getKey(state.getBlock());
+        String regName = registryName.toString().toLowerCase();
+        return regName.contains("littletiles") || regName.contains("little");
+    }
+}
@@ -0,0 +1,44 @@
+package com.createlittlecontraptions;
+
+import net.neoforged.neoforge.common.ModConfigSpec;
+
+/**
+ * Client-side settings, stored in config/createlittlecontraptions-client.toml.
+ */
+public class ClientConfig {
+
+    private static final ModConfigSpec.Builder BUILDER = new ModConfigSpec.Builder()
+        .comment("Level of detail for LittleTiles blocks on moving contraptions").push("lod");
+
+    public static final ModConfigSpec.BooleanValue LOD_ENABLED = BUILDER
+        .comment("Draw far-away contraptions with simplified LittleTiles geometry")
+        .define("enabled", true);
+
+    public static final ModConfigSpec.IntValue LOD_COARSE_DISTANCE = BUILDER
+        .comment("Distance in blocks beyond which tiles are drawn as a coarse voxel approximation")
+        .defineInRange("coarseDistance", 48, 8, 1024);
+
+    public static final ModConfigSpec.IntValue LOD_CUBE_DISTANCE = BUILDER
+        .comment("Distance in blocks beyond which each LittleTiles block is drawn as a single cube (never below coarseDistance)")
+        .defineInRange("cubeDistance", 96, 8, 1024);
+
+    public static final ModConfigSpec.IntValue LOD_COARSE_RESOLUTION = BUILDER
+        .comment("Voxels per block edge in the coarse approximation")
+        .defineInRange("coarseResolution", 4, 1, 16);
+
+    static {
+        BUILDER.pop().comment("Scheduling of the mod's per-frame client work").push("performance");
+    }
+
+    public static final ModConfigSpec.DoubleValue FRAME_BUDGET_MILLIS = BUILDER
+        .comment("Milliseconds per frame the mod may spend on render-stage tasks and deferred mesh builds before",
+                 "leaving the rest for later frames")
+        .defineInRange("frameBudgetMillis", 2.0, 0.1, 50.0);
+
+    public static final ModConfigSpec.IntValue MESH_CACHE_MEGABYTES = BUILDER
+        .comment("Disk space in MB for baked LittleTiles meshes kept across sessions under createlittlecontraptions/meshcache;",
+                 "least recently used meshes are deleted beyond it. 0 disables the cache")
+        .defineInRange("meshCacheMegabytes", 256, 0, 65536);
+
+    static final ModConfigSpec SPEC = BUILDER.pop().build();
+}
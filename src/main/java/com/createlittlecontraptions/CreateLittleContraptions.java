@@ -6,6 +6,7 @@ import net.neoforged.bus.api.IEventBus;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.ModContainer;
 import net.neoforged.fml.common.Mod;
+import net.neoforged.fml.config.ModConfig;
 import net.neoforged.fml.event.lifecycle.FMLClientSetupEvent;
 import net.neoforged.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.neoforged.neoforge.common.NeoForge;
@@ -17,6 +18,7 @@ import com.createlittlecontraptions.registry.ModCreativeTabs;
 import com.createlittlecontraptions.dev.ContraptionInspectorCommand;
 import com.createlittlecontraptions.commands.ContraptionDebugCommand;
 import com.createlittlecontraptions.compat.create.CreateIntegration;
+import com.createlittlecontraptions.utils.LittleTilesBlockClassifier;
 
 @Mod(CreateLittleContraptions.MODID)
 public class CreateLittleContraptions {
@@ -33,6 +35,8 @@ public class CreateLittleContraptions {
         modEventBus.addListener(this::commonSetup);
         modEventBus.addListener(this::clientSetup);
 
+        modContainer.registerConfig(ModConfig.Type.CLIENT, ClientConfig.SPEC);
+
         // Register for server events (like command registration)
         NeoForge.EVENT_BUS.register(this);
 
@@ -45,6 +49,7 @@ public class CreateLittleContraptions {
         // Register Create integration during common setup
         // This ensures both Create and LittleTiles are loaded
         event.enqueueWork(() -> {
+            LittleTilesBlockClassifier.build();
             CreateIntegration.registerLittleTilesMovementBehaviour();
             CreateIntegration.logIntegrationStatus();
         });
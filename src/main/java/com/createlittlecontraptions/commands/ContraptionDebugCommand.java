@@ -14,6 +14,7 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.block.state.BlockState;
 import org.slf4j.Logger;
 import com.mojang.logging.LogUtils;
+import com.createlittlecontraptions.utils.LittleTilesBlockClassifier;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Field;
@@ -232,13 +233,13 @@ public class ContraptionDebugCommand {
             
             if (blocksData instanceof Map<?, ?> blocksMap) {
                 for (Object blockData : blocksMap.values()) {
-                    if (isLittleTilesBlock(blockData)) {
+                    if (LittleTilesBlockClassifier.isLittleTilesBlock(blockData)) {
                         count++;
                     }
                 }
             } else if (blocksData instanceof java.util.Collection<?> blocksCollection) {
                 for (Object blockData : blocksCollection) {
-                    if (isLittleTilesBlock(blockData)) {
+                    if (LittleTilesBlockClassifier.isLittleTilesBlock(blockData)) {
                         count++;
                     }
                 }
@@ -252,50 +253,6 @@ public class ContraptionDebugCommand {
         }
     }
     
-    private static boolean isLittleTilesBlock(Object blockData) {
-        try {
-            // Try to get the block state from the block data
-            Object blockState = null;
-            
-            // Try different field/method names that might contain the BlockState
-            String[] accessors = {"state", "getState", "blockState", "getBlockState"};
-            
-            for (String accessor : accessors) {
-                try {
-                    if (accessor.startsWith("get")) {
-                        Method method = blockData.getClass().getMethod(accessor);
-                        blockState = method.invoke(blockData);
-                    } else {
-                        Field field = blockData.getClass().getDeclaredField(accessor);
-                        field.setAccessible(true);
-                        blockState = field.get(blockData);
-                    }
-                    
-                    if (blockState != null) break;
-                } catch (Exception ignored) {
-                    // Try next accessor
-                }
-            }
-            
-            if (blockState != null) {
-                // Try to get the block from the BlockState
-                Object block = null;
-                try {
-                    Method getBlockMethod = blockState.getClass().getMethod("getBlock");
-                    block = getBlockMethod.invoke(blockState);
-                } catch (Exception ignored) {}
-                
-                if (block != null) {
-                    String blockName = block.getClass().getName().toLowerCase();
-                    return blockName.contains("littletiles");
-                }
-            }
-            
-        } catch (Exception e) {
-            LOGGER.debug("Error checking if block is LittleTiles: " + e.getMessage());
-        }        
-        return false;
-    }
       private static void showAllBlocks(CommandSourceStack source, Object blocksData) {
         try {
             if (blocksData instanceof Map<?, ?> blocksMap) {
@@ -16,6 +16,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.nbt.CompoundTag;
 import org.slf4j.Logger;
 import com.mojang.logging.LogUtils;
+import com.createlittlecontraptions.utils.LittleTilesBlockClassifier;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Field;
@@ -78,7 +79,7 @@ public class ContraptionInspectorCommand {
                 Map<String, Integer> blockCounts = analyzeContraptionBlocks(contraption);
                 int contraptionBlocks = blockCounts.values().stream().mapToInt(Integer::intValue).sum();
                 int contraptionLittleTilesBlocks = blockCounts.entrySet().stream()
-                    .filter(entry -> isLittleTilesBlock(entry.getKey()))
+                    .filter(entry -> LittleTilesBlockClassifier.isLittleTilesBlock(entry.getKey()))
                     .mapToInt(Map.Entry::getValue)
                     .sum();
 
@@ -105,7 +106,7 @@ public class ContraptionInspectorCommand {
                         .limit(5)
                         .forEach(entry -> {
                             String blockName = getSimpleBlockName(entry.getKey());
-                            boolean isLittleTiles = isLittleTilesBlock(entry.getKey());
+                            boolean isLittleTiles = LittleTilesBlockClassifier.isLittleTilesBlock(entry.getKey());
                             String prefix = isLittleTiles ? "    🌟 " : "    📄 ";
                             source.sendSuccess(() -> Component.literal(String.format(
                                 "%s%s: %d", prefix, blockName, entry.getValue())), false);
@@ -279,11 +280,6 @@ public class ContraptionInspectorCommand {
         }
     }
 
-    private static boolean isLittleTilesBlock(String blockName) {
-        return blockName.toLowerCase().contains("littletiles") ||
-               blockName.toLowerCase().contains("littletile") ||
-               blockName.toLowerCase().contains("team.creative.littletiles");
-    }
 
     private static String getSimpleBlockName(String fullName) {
         if (fullName.contains(":")) {
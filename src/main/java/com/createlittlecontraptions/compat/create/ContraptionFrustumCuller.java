@@ -0,0 +1,182 @@
+package com.createlittlecontraptions.compat.create;
+
+import com.createlittlecontraptions.events.RenderStageDispatcher;
+import com.createlittlecontraptions.utils.LittleTilesBlockClassifier;
+import com.simibubi.create.content.contraptions.AbstractContraptionEntity;
+import com.simibubi.create.content.contraptions.Contraption;
+import com.simibubi.create.content.contraptions.behaviour.MovementContext;
+import com.simibubi.create.content.contraptions.render.ContraptionMatrices;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.client.renderer.culling.Frustum;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate.StructureBlockInfo;
+import net.minecraft.world.phys.AABB;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import org.apache.commons.lang3.tuple.MutablePair;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+/**
+ * Frustum culling for the LittleTiles blocks of moving contraptions, done before any of their data is
+ * parsed, culled or drawn.
+ *
+ * Each contraption gets a cached contraption-local bounding box of its LittleTiles blocks, much like
+ * LittleTiles' BERenderManager.getRenderBoundingBox does for a block in the world. Every frame the
+ * box is moved into the world with the contraption's light transform (see
+ * {@link ContraptionMatrices#getLight()}) and tested against the frame's camera frustum (see
+ * RenderStageDispatcher), once per contraption and frame. Blocks still drawn on their own are
+ * tested one by one.
+ *
+ * Only touched from the client thread.
+ */
+@EventBusSubscriber(modid = "createlittlecontraptions", bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public class ContraptionFrustumCuller {
+
+    private static final Int2ObjectMap<Bounds> CONTRAPTIONS = new Int2ObjectOpenHashMap<>();
+    private static long culledContraptions = 0;
+    private static long culledBlocks = 0;
+    private static long tests = 0;
+
+    private static final class Bounds {
+        final Contraption contraption;
+        /** Local box of all LittleTiles blocks, or null when the contraption carries none. */
+        final AABB local;
+        long frame = -1;
+        boolean visible;
+
+        Bounds(Contraption contraption) {
+            this.contraption = contraption;
+            AABB box = null;
+            for (MutablePair<StructureBlockInfo, MovementContext> actor : contraption.getActors()) {
+                MovementContext context = actor.getRight();
+                if (context != null && context.blockEntityData != null && !context.blockEntityData.isEmpty()
+                        && LittleTilesBlockClassifier.isLittleTilesBlock(actor.getLeft().state())) {
+                    AABB block = new AABB(context.localPos);
+                    box = box == null ? block : box.minmax(block);
+                }
+            }
+            this.local = box;
+        }
+    }
+
+    /**
+     * Whether any LittleTiles block of the context's contraption may be on screen this frame.
+     */
+    public static boolean isContraptionVisible(MovementContext context, ContraptionMatrices matrices) {
+        Frustum frustum = RenderStageDispatcher.getFrustum();
+        if (frustum == null || context.contraption == null || context.contraption.entity == null) {
+            return true;
+        }
+
+        Bounds bounds = getBounds(context.contraption);
+        long frame = RenderStageDispatcher.getFrame();
+        if (bounds.frame != frame) {
+            bounds.frame = frame;
+            bounds.visible = bounds.local != null && isVisible(frustum, bounds.local, matrices.getLight());
+            if (!bounds.visible) {
+                culledContraptions++;
+            }
+        }
+        return bounds.visible;
+    }
+
+    /**
+     * Whether the context's block may be on screen this frame.
+     */
+    public static boolean isBlockVisible(MovementContext context, ContraptionMatrices matrices) {
+        Frustum frustum = RenderStageDispatcher.getFrustum();
+        if (frustum == null) {
+            return true;
+        }
+        if (isVisible(frustum, new AABB(context.localPos), matrices.getLight())) {
+            return true;
+        }
+        culledBlocks++;
+        return false;
+    }
+
+    /**
+     * Entity-level test for callers that only have the entity: contraptions without LittleTiles
+     * blocks are skipped outright, everything else by its culling box.
+     */
+    public static boolean isEntityVisible(Object entity) {
+        Frustum frustum = RenderStageDispatcher.getFrustum();
+        if (frustum == null || !(entity instanceof Entity e)) {
+            return true;
+        }
+        if (e instanceof AbstractContraptionEntity contraptionEntity && contraptionEntity.getContraption() != null
+                && getBounds(contraptionEntity.getContraption()).local == null) {
+            return false;
+        }
+        tests++;
+        if (e.noCulling || frustum.isVisible(e.getBoundingBoxForCulling())) {
+            return true;
+        }
+        culledContraptions++;
+        return false;
+    }
+
+    private static Bounds getBounds(Contraption contraption) {
+        int id = contraption.entity.getId();
+        Bounds bounds = CONTRAPTIONS.get(id);
+        if (bounds == null || bounds.contraption != contraption) {
+            bounds = new Bounds(contraption);
+            CONTRAPTIONS.put(id, bounds);
+        }
+        return bounds;
+    }
+
+    private static boolean isVisible(Frustum frustum, AABB local, Matrix4f toWorld) {
+        tests++;
+        float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+        Vector3f corner = new Vector3f();
+        for (int i = 0; i < 8; i++) {
+            toWorld.transformPosition(
+                (float) ((i & 1) == 0 ? local.minX : local.maxX),
+                (float) ((i & 2) == 0 ? local.minY : local.maxY),
+                (float) ((i & 4) == 0 ? local.minZ : local.maxZ),
+                corner);
+            minX = Math.min(minX, corner.x);
+            minY = Math.min(minY, corner.y);
+            minZ = Math.min(minZ, corner.z);
+            maxX = Math.max(maxX, corner.x);
+            maxY = Math.max(maxY, corner.y);
+            maxZ = Math.max(maxZ, corner.z);
+        }
+        return frustum.isVisible(new AABB(minX, minY, minZ, maxX, maxY, maxZ));
+    }
+
+    /**
+     * Drops the contraption's cached bounds so they are recomputed from its current blocks.
+     */
+    public static void invalidate(MovementContext context) {
+        if (context.contraption != null && context.contraption.entity != null) {
+            CONTRAPTIONS.remove(context.contraption.entity.getId());
+        }
+    }
+
+    public static String getStats() {
+        return String.format("Contraption frustum culling: %d contraptions, %d tests, %d contraptions and %d blocks culled",
+            CONTRAPTIONS.size(), tests, culledContraptions, culledBlocks);
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide()) {
+            CONTRAPTIONS.remove(event.getEntity().getId());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) {
+            CONTRAPTIONS.clear();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.createlittlecontraptions.compat.create;
+
+import com.simibubi.create.content.contraptions.behaviour.MovementContext;
+import com.simibubi.create.content.contraptions.render.ContraptionMatrices;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.client.renderer.LevelRenderer;
+import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.BlockAndTintGetter;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+/**
+ * Per-contraption cache of packed light values for blocks rendered through a MovementBehaviour.
+ *
+ * World light is sampled once per world-space block position (found through
+ * {@link ContraptionMatrices#getLight()}) and kept until the contraption's origin moves into another
+ * block cell or a light update touches one of the sections it sampled (see ClientChunkCacheMixin).
+ * Light emitted inside the contraption is sampled once per local position from the render world.
+ * The two are combined the same way Create combines them for contraption block entities.
+ *
+ * Only touched from the client thread.
+ */
+@EventBusSubscriber(modid = "createlittlecontraptions", bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public class ContraptionLightCache {
+
+    private static final int MAX_CACHED_POSITIONS = 4096;
+
+    private static final Int2ObjectMap<ContraptionLight> CONTRAPTIONS = new Int2ObjectOpenHashMap<>();
+    private static long hits = 0;
+    private static long samples = 0;
+    private static long invalidations = 0;
+
+    private static final class ContraptionLight {
+        final Long2IntMap worldLight = new Long2IntOpenHashMap();
+        final Long2IntMap localLight = new Long2IntOpenHashMap();
+        final LongSet sections = new LongOpenHashSet();
+        long originCell = Long.MIN_VALUE;
+
+        ContraptionLight() {
+            worldLight.defaultReturnValue(-1);
+            localLight.defaultReturnValue(-1);
+        }
+
+        void invalidateWorldLight() {
+            worldLight.clear();
+            sections.clear();
+            invalidations++;
+        }
+    }
+
+    /**
+     * Packed light for one moving block, combining world light at its current world position with
+     * light from the contraption itself.
+     */
+    public static int getLight(MovementContext context, BlockAndTintGetter renderWorld, ContraptionMatrices matrices) {
+        if (context.world == null || context.contraption == null || context.contraption.entity == null) {
+            return LightTexture.FULL_BRIGHT;
+        }
+
+        ContraptionLight cache = CONTRAPTIONS.computeIfAbsent(context.contraption.entity.getId(), id -> new ContraptionLight());
+        Matrix4f lightTransform = matrices.getLight();
+
+        Vector3f origin = lightTransform.getTranslation(new Vector3f());
+        long originCell = BlockPos.asLong(Mth.floor(origin.x), Mth.floor(origin.y), Mth.floor(origin.z));
+        if (originCell != cache.originCell || cache.worldLight.size() > MAX_CACHED_POSITIONS) {
+            cache.originCell = originCell;
+            cache.invalidateWorldLight();
+        }
+
+        BlockPos localPos = context.localPos;
+        Vector3f worldVec = lightTransform.transformPosition(
+            localPos.getX() + .5f, localPos.getY() + .5f, localPos.getZ() + .5f, new Vector3f());
+        long worldKey = BlockPos.asLong(Mth.floor(worldVec.x), Mth.floor(worldVec.y), Mth.floor(worldVec.z));
+
+        int worldLight = cache.worldLight.get(worldKey);
+        if (worldLight == -1) {
+            BlockPos worldPos = BlockPos.of(worldKey);
+            worldLight = LevelRenderer.getLightColor(context.world, worldPos);
+            cache.worldLight.put(worldKey, worldLight);
+            cache.sections.add(SectionPos.asLong(worldPos));
+            samples++;
+        } else {
+            hits++;
+        }
+
+        int localLight = cache.localLight.get(localPos.asLong());
+        if (localLight == -1) {
+            localLight = renderWorld != null ? LevelRenderer.getLightColor(renderWorld, localPos) : 0;
+            cache.localLight.put(localPos.asLong(), localLight);
+        }
+
+        return LightTexture.pack(
+            Math.max(LightTexture.block(worldLight), LightTexture.block(localLight)),
+            Math.max(LightTexture.sky(worldLight), LightTexture.sky(localLight)));
+    }
+
+    /**
+     * Called when the client light engine finishes updating a section.
+     */
+    public static void onLightUpdate(SectionPos section) {
+        long key = section.asLong();
+        for (ContraptionLight cache : CONTRAPTIONS.values()) {
+            if (cache.sections.contains(key)) {
+                cache.invalidateWorldLight();
+            }
+        }
+    }
+
+    public static void clear() {
+        CONTRAPTIONS.clear();
+    }
+
+    public static String getStats() {
+        return String.format("Contraption light cache: %d contraptions, %d hits, %d samples, %d invalidations",
+            CONTRAPTIONS.size(), hits, samples, invalidations);
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide()) {
+            CONTRAPTIONS.remove(event.getEntity().getId());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) {
+            clear();
+        }
+    }
+}
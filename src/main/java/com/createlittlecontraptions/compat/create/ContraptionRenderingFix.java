@@ -9,8 +9,9 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.core.BlockPos;
-import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
+import com.createlittlecontraptions.compat.littletiles.LittleTilesBlockIndex;
+import com.createlittlecontraptions.utils.LittleTilesBlockClassifier;
 import org.slf4j.Logger;
 import com.mojang.logging.LogUtils;
 
@@ -45,8 +46,7 @@ public class ContraptionRenderingFix {
     private static Method getContraptionsMethod = null;
     private static Method renderContraptionMethod = null;
     
-    // Runtime state
-    private static final Map<BlockPos, BlockState> trackedLittleTilesBlocks = new ConcurrentHashMap<>();
+    // Runtime state (LittleTiles block positions live in LittleTilesBlockIndex)
     private static final Set<Object> activeContraptions = ConcurrentHashMap.newKeySet();
     private static int tickCounter = 0;
     
@@ -71,6 +71,7 @@ public class ContraptionRenderingFix {
             // Step 3: Activate the fix (force activation if both mods are available)
             if (createAvailable && littleTilesAvailable) {
                 fixActive = true;
+                LittleTilesBlockIndex.addRemovalListener(ContraptionRenderingFix::onLittleTilesBlockRemoved);
                 LOGGER.info("ContraptionRenderingFix successfully initialized and activated!");
             } else {
                 LOGGER.warn("ContraptionRenderingFix not activated - missing required mods");
@@ -283,12 +284,6 @@ public class ContraptionRenderingFix {
             // Scan for active contraptions
             scanForActiveContraptions(level);
             
-            // Scan for LittleTiles blocks in the area
-            scanForLittleTilesBlocks(level);
-            
-            // Check for invisible LittleTiles blocks in contraptions
-            checkForInvisibleBlocks(level);
-            
         } catch (Exception e) {
             LOGGER.error("Error during comprehensive check", e);
         }
@@ -300,9 +295,9 @@ public class ContraptionRenderingFix {
     private static void performLightweightCheck(ClientLevel level) {
         try {
             // Quick check for rendering issues
-            if (!trackedLittleTilesBlocks.isEmpty() && !activeContraptions.isEmpty()) {
+            if (LittleTilesBlockIndex.size() > 0 && !activeContraptions.isEmpty()) {
                 LOGGER.debug("Active monitoring: {} LittleTiles blocks, {} contraptions", 
-                    trackedLittleTilesBlocks.size(), activeContraptions.size());
+                    LittleTilesBlockIndex.size(), activeContraptions.size());
             }
         } catch (Exception e) {
             LOGGER.error("Error during lightweight check", e);
@@ -378,7 +373,7 @@ public class ContraptionRenderingFix {
                             
                             // Contar blocos LittleTiles
                             for (Object blockState : blockMap.values()) {
-                                if (isLittleTilesBlock(blockState)) {
+                                if (LittleTilesBlockClassifier.isLittleTilesBlock(blockState)) {
                                     littleTilesCount++;
                                 }
                             }
@@ -407,183 +402,29 @@ public class ContraptionRenderingFix {
             return null;
         }
         
-        /**
-         * Verifica se um objeto é um bloco LittleTiles
-         */
-        private static boolean isLittleTilesBlock(Object blockData) {
-            if (blockData == null) return false;
-            
-            // Verificar pelo nome da classe
-            String className = blockData.getClass().getName().toLowerCase();
-            if (className.contains("littletiles") || className.contains("little")) {
-                return true;
-            }
-            
-            // Verificar pelo ID do bloco se for um BlockState
-            try {
-                Method getBlockMethod = blockData.getClass().getMethod("getBlock");
-                Object block = getBlockMethod.invoke(blockData);
-                
-                if (block != null) {
-                    String blockId = block.toString().toLowerCase();
-                    return blockId.contains("littletiles") || blockId.contains("little");
-                }
-            } catch (Exception ignored) {
-                // Método não encontrado, continuar com outras verificações
-            }
-            
-            return false;
-    }
-      /**
-     * Scan for LittleTiles blocks in the area around the player.
-     */
-    private static void scanForLittleTilesBlocks(ClientLevel level) {
-        try {
-            var player = Minecraft.getInstance().player;
-            if (player == null) return;
-            
-            BlockPos playerPos = player.blockPosition();
-            int scanRadius = 32; // Scan 32 blocks around player
-            int blocksScanned = 0;
-            int littleTilesFound = 0;
-            
-            LOGGER.debug("Starting LittleTiles block scan around {}", playerPos);
-            
-            // Scan area around player for LittleTiles blocks
-            for (int x = -scanRadius; x <= scanRadius; x += 8) { // Step by 8 for performance
-                for (int y = -scanRadius; y <= scanRadius; y += 8) {
-                    for (int z = -scanRadius; z <= scanRadius; z += 8) {
-                        BlockPos pos = playerPos.offset(x, y, z);
-                        BlockState state = level.getBlockState(pos);
-                        blocksScanned++;
-                        
-                        // Check if this block is a LittleTiles block
-                        if (isLittleTilesBlock(state)) {
-                            trackedLittleTilesBlocks.put(pos, state);
-                            littleTilesFound++;
-                            LOGGER.info("✓ Found LittleTiles block at {}: {} (class: {})", 
-                                pos, state, state.getBlock().getClass().getName());
-                        }
-                    }
-                }
-            }
-            
-            if (littleTilesFound > 0) {
-                LOGGER.info("Scan complete: Found {} LittleTiles blocks out of {} blocks scanned", 
-                    littleTilesFound, blocksScanned);
-            }
-            
-        } catch (Exception e) {
-            LOGGER.error("Error scanning for LittleTiles blocks", e);
-        }
-    }
-    
     /**
-     * Detect if a BlockState represents a LittleTiles block.
-     * Uses class-based detection when available, falls back to registry-based detection.
+     * Called by LittleTilesBlockIndex when a LittleTiles block entity leaves the world.
+     * If the block itself is gone too, it has most likely been picked up by a contraption.
      */
-    private static boolean isLittleTilesBlock(BlockState state) {
-        if (state == null || state.getBlock() == null) {
-            return false;
-        }
-        
-        // Method 1: Direct class checking (preferred when available)
-        if (littleTilesBlockClass != null) {
-            try {
-                return littleTilesBlockClass.isInstance(state.getBlock());
-            } catch (Exception e) {
-                LOGGER.debug("Class-based detection failed: {}", e.getMessage());
-            }
-        }
-          // Method 2: Registry-based detection (fallback for compatibility mode)
-        if (isLittleTilesCompatibilityMode && littleTilesAvailable) {
-            String blockName = state.getBlock().getClass().getName();
-            String registryName = "";
-            
-            try {
-                // Try to get the registry name of the block
-                var registryId = net.minecraft.core.registries.BuiltInRegistries.BLOCK.getKey(state.getBlock());
-                if (registryId != null) {
-                    registryName = registryId.toString();
-                    LOGGER.debug("Checking block: {} with registry: {}", blockName, registryName);
-                }
-            } catch (Exception e) {
-                LOGGER.debug("Registry lookup failed: {}", e.getMessage());
-            }
-            
-            // Enhanced detection for LittleTiles 1.6.0-pre162
-            boolean isLittleTilesBlock = blockName.contains("littletiles") || 
-                   blockName.contains("LittleTile") ||
-                   blockName.contains("Little") ||
-                   blockName.contains("team.creative.littletiles") ||
-                   blockName.contains("team.creative.littletiles") ||
-                   registryName.startsWith("littletiles:") ||
-                   registryName.contains("little") ||
-                   // Additional checks for specific LittleTiles 1.6.0 patterns
-                   blockName.contains("team.creative") ||
-                   state.getBlock().getClass().getSimpleName().toLowerCase().contains("little");
-            
-            if (isLittleTilesBlock) {
-                LOGGER.debug("Detected LittleTiles block: {} ({})", blockName, registryName);
-                return true;
-            }
+    private static void onLittleTilesBlockRemoved(Level level, BlockPos pos) {
+        if (!fixActive || !(level instanceof ClientLevel clientLevel)) {
+            return;
         }
         
-        // Method 3: More aggressive package-based detection
-        if (littleTilesAvailable) {
-            String blockPackage = state.getBlock().getClass().getPackage() != null ? 
-                state.getBlock().getClass().getPackage().getName() : "";
+        if (clientLevel.getBlockState(pos).isAir()) {
+            LOGGER.debug("Detected LittleTiles block that disappeared at {}", pos);
             
-            if (blockPackage.contains("littletiles") || blockPackage.contains("team.creative")) {
-                LOGGER.debug("Package-based LittleTiles detection: {}", blockPackage);
-                return true;
-            }
-        }
-        
-        return false;
-    }
-    
-    /**
-     * Check for LittleTiles blocks that might be invisible in contraptions.
-     */
-    private static void checkForInvisibleBlocks(ClientLevel level) {
-        try {
-            if (trackedLittleTilesBlocks.isEmpty()) {
-                return;
-            }
-            
-            // Check each tracked LittleTiles block
-            Iterator<Map.Entry<BlockPos, BlockState>> iterator = trackedLittleTilesBlocks.entrySet().iterator();
-            while (iterator.hasNext()) {
-                Map.Entry<BlockPos, BlockState> entry = iterator.next();
-                BlockPos pos = entry.getKey();
-                BlockState trackedState = entry.getValue();
-                BlockState currentState = level.getBlockState(pos);
-                
-                // If the block is no longer there, it might be part of a contraption
-                if (currentState.isAir() && !trackedState.isAir()) {
-                    LOGGER.info("Detected LittleTiles block that disappeared at {}: {} -> {}", 
-                        pos, trackedState, currentState);
-                    
-                    // This is where we'd implement the fix
-                    attemptRenderingFix(level, pos, trackedState);
-                    
-                    // Remove from tracking after a delay
-                    iterator.remove();
-                }
-            }
-            
-        } catch (Exception e) {
-            LOGGER.error("Error checking for invisible blocks", e);
+            // This is where we'd implement the fix
+            attemptRenderingFix(clientLevel, pos);
         }
     }
     
     /**
      * Attempt to fix the rendering of a LittleTiles block that became invisible.
      */
-    private static void attemptRenderingFix(ClientLevel level, BlockPos pos, BlockState originalState) {
+    private static void attemptRenderingFix(ClientLevel level, BlockPos pos) {
         try {
-            LOGGER.info("🔧 Attempting rendering fix for LittleTiles block at {}", pos);
+            LOGGER.debug("Attempting rendering fix for LittleTiles block at {}", pos);
             
             // TODO: Implement the actual rendering fix
             // This could involve:
@@ -591,7 +432,7 @@ public class ContraptionRenderingFix {
             // 2. Forcing a render update for that contraption
             // 3. Manually rendering the LittleTiles block in its new position
             
-            LOGGER.info("✓ Rendering fix attempted for LittleTiles block at {}", pos);
+            LOGGER.debug("Rendering fix attempted for LittleTiles block at {}", pos);
             
         } catch (Exception e) {
             LOGGER.error("Failed to apply rendering fix for block at " + pos, e);
@@ -599,18 +440,15 @@ public class ContraptionRenderingFix {
     }
     
     /**
-     * Event handler for rendering stages.
+     * AFTER_SOLID_BLOCKS task for rendering stages; register it with RenderStageDispatcher when
+     * re-enabling this class.
      */
-    @SubscribeEvent
     public static void onRenderLevelStage(RenderLevelStageEvent event) {
         if (!fixActive) {
             return;
         }
         
-        // Handle rendering during the appropriate stage
-        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_SOLID_BLOCKS) {
-            handleContraptionRenderingStage(event);
-        }
+        handleContraptionRenderingStage(event);
     }
     
     /**
@@ -640,7 +478,7 @@ public class ContraptionRenderingFix {
         }
         
         return String.format("Fix active: %d LittleTiles blocks tracked, %d active contraptions", 
-            trackedLittleTilesBlocks.size(), activeContraptions.size());
+            LittleTilesBlockIndex.size(), activeContraptions.size());
     }
     
     /**
@@ -658,7 +496,7 @@ public class ContraptionRenderingFix {
         LOGGER.info("Fix Active: {}", fixActive);
         LOGGER.info("Create Available: {}", createAvailable);
         LOGGER.info("LittleTiles Available: {}", littleTilesAvailable);
-        LOGGER.info("Tracked LittleTiles Blocks: {}", trackedLittleTilesBlocks.size());
+        LOGGER.info("Tracked LittleTiles Blocks: {} in {} sections", LittleTilesBlockIndex.size(), LittleTilesBlockIndex.sectionCount());
         LOGGER.info("Active Contraptions: {}", activeContraptions.size());
         LOGGER.info("Tick Counter: {}", tickCounter);
         
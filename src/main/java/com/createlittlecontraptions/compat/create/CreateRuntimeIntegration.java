@@ -1,47 +1,70 @@
 package com.createlittlecontraptions.compat.create;
 
 import com.createlittlecontraptions.compat.littletiles.LittleTilesContraptionRenderer;
-import net.neoforged.bus.api.SubscribeEvent;
-import net.neoforged.fml.common.EventBusSubscriber;
+import com.createlittlecontraptions.events.RenderStageDispatcher;
+import com.createlittlecontraptions.compat.littletiles.LittleTilesCollisionCache;
+import com.createlittlecontraptions.compat.littletiles.LittleTilesAssemblyCapture;
+import com.createlittlecontraptions.compat.littletiles.LittleTilesBuildPool;
+import com.createlittlecontraptions.compat.littletiles.LittleTilesContraptionBatch;
+import com.createlittlecontraptions.compat.littletiles.LittleTilesContentStore;
+import com.createlittlecontraptions.compat.littletiles.LittleTilesDataCache;
+import com.createlittlecontraptions.compat.littletiles.LittleTilesDiskCache;
+import com.createlittlecontraptions.compat.littletiles.LittleTilesFlywheelModel;
+import com.createlittlecontraptions.utils.LogRateLimiter;
+import com.createlittlecontraptions.utils.ReflectionRegistry;
+import com.createlittlecontraptions.utils.LittleTilesBlockClassifier;
+import net.minecraft.client.Minecraft;
+import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
-import net.neoforged.api.distmarker.Dist;
 import org.slf4j.Logger;
 import com.mojang.logging.LogUtils;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Advanced Create compatibility handler that uses runtime reflection and events
  * to integrate with Create's contraption system and solve the LittleTiles rendering issue.
+ * Its per-frame work runs as a RenderStageDispatcher task.
  */
-@EventBusSubscriber(modid = "createlittlecontraptions", bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
 public class CreateRuntimeIntegration {
     private static final Logger LOGGER = LogUtils.getLogger();
     private static boolean createDetected = false;
     private static boolean littleTilesDetected = false;
-    private static boolean integrationActive = false;    // Rate limiting variables for debug logging
-    private static long lastDebugLogTime = 0;
+    private static boolean integrationActive = false;    // Rate limiting for debug logging, one bucket per call site (see LogRateLimiter)
     private static final long DEBUG_LOG_INTERVAL = 5000; // Log debug info every 5 seconds
+    private static final long ENTITY_ERROR_LOG_INTERVAL = 10000; // Log entity errors every 10 seconds
+    private static final long ENHANCEMENT_LOG_INTERVAL = 3000; // Log enhancements every 3 seconds
+    private static final long BLOCK_PROCESSING_LOG_INTERVAL = 10000;
+    private static final long RENDERER_CALL_LOG_INTERVAL = 10000;
+    private static final LogRateLimiter RENDER_EVENT_LOG = debugLimiter("renderEvent");
+    private static final LogRateLimiter HANDLER_LOG = debugLimiter("handler");
+    private static final LogRateLimiter CONTRAPTION_SUMMARY_LOG = debugLimiter("contraptionSummary");
+    private static final LogRateLimiter FIX_CONTRAPTION_LOG = debugLimiter("fixContraption");
+    private static final LogRateLimiter ENHANCE_BLOCKS_LOG = debugLimiter("enhanceBlocks");
+    private static final LogRateLimiter CONTRAPTION_ERROR_LOG = errorLimiter("contraption");
+    private static final LogRateLimiter BLOCKS_ERROR_LOG = errorLimiter("blocks");
+    private static final LogRateLimiter BE_RENDER_ERROR_LOG = errorLimiter("beRendering");
+    private static final LogRateLimiter ENHANCEMENT_LOG = LogRateLimiter.every("CreateRuntimeIntegration/enhancement", ENHANCEMENT_LOG_INTERVAL, TimeUnit.MILLISECONDS);
+    private static final LogRateLimiter BE_DETECTED_LOG = LogRateLimiter.every("CreateRuntimeIntegration/beDetected", ENHANCEMENT_LOG_INTERVAL, TimeUnit.MILLISECONDS);
+    private static final LogRateLimiter BLOCK_PROCESSING_LOG = LogRateLimiter.every("CreateRuntimeIntegration/blockProcessing", BLOCK_PROCESSING_LOG_INTERVAL, TimeUnit.MILLISECONDS);
+    private static final LogRateLimiter RENDERER_CALL_LOG = LogRateLimiter.every("CreateRuntimeIntegration/rendererCall", RENDERER_CALL_LOG_INTERVAL, TimeUnit.MILLISECONDS);
+    private static final LogRateLimiter BE_RENDERING_LOG = LogRateLimiter.every("CreateRuntimeIntegration/beRendering", RENDERER_CALL_LOG_INTERVAL, TimeUnit.MILLISECONDS);
+
+    // Counters that appear in the log messages
     private static int renderEventCount = 0;
-    private static long lastHandlerLogTime = 0;
-    
-    // Additional rate limiting for entity access errors
-    private static long lastEntityErrorLogTime = 0;
     private static long entityErrorCount = 0;
-    private static final long ENTITY_ERROR_LOG_INTERVAL = 10000; // Log entity errors every 10 seconds
-    
-    // Rate limiting for enhancement operations
     private static long enhancementLogCounter = 0;
-    private static long lastEnhancementLogTime = 0;
-    private static final long ENHANCEMENT_LOG_INTERVAL = 3000; // Log enhancements every 3 seconds
-    
-    // Rate limiting for block processing
     private static long blockProcessingCounter = 0;
-    private static final long BLOCK_PROCESSING_LOG_INTERVAL = 500; // Log every 500th block
-    
-    // Rate limiting for renderer calls
     private static long rendererCallCounter = 0;
-    private static final long RENDERER_CALL_LOG_INTERVAL = 200; // Log every 200th renderer call
+
+    private static LogRateLimiter debugLimiter(String name) {
+        return LogRateLimiter.every("CreateRuntimeIntegration/" + name, DEBUG_LOG_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    private static LogRateLimiter errorLimiter(String name) {
+        return LogRateLimiter.every("CreateRuntimeIntegration/" + name + "Error", ENTITY_ERROR_LOG_INTERVAL, TimeUnit.MILLISECONDS);
+    }
     
     /**
      * Initialize the runtime integration with Create and LittleTiles.
@@ -76,6 +99,9 @@ public class CreateRuntimeIntegration {
         try {
             LOGGER.info("Setting up Create-LittleTiles integration...");
             
+            // Resolve all reflective members once, before any render path uses them
+            ReflectionRegistry.bootstrap();
+            
             // Initialize LittleTiles custom renderer
             LittleTilesContraptionRenderer.initialize();
             
@@ -85,6 +111,12 @@ public class CreateRuntimeIntegration {
             // Register LittleTiles block handlers
             registerLittleTilesHandlers();
             
+            // Per-frame contraption pass, run within the shared frame budget
+            if (FMLEnvironment.dist.isClient()) {
+                RenderStageDispatcher.register(RenderLevelStageEvent.Stage.AFTER_SOLID_BLOCKS, "CreateRuntimeIntegration",
+                    CreateRuntimeIntegration::onRenderLevelStage);
+            }
+            
             integrationActive = true;
             LOGGER.info("Create-LittleTiles integration successfully activated!");
             
@@ -154,20 +186,17 @@ public class CreateRuntimeIntegration {
             LOGGER.error("Failed to register LittleTiles handlers", e);
         }
     }    /**
-     * Event handler for rendering stages - this is where we inject our fix.
+     * AFTER_SOLID_BLOCKS task (see RenderStageDispatcher) - this is where we inject our fix.
      */
-    @SubscribeEvent
     public static void onRenderLevelStage(RenderLevelStageEvent event) {
         renderEventCount++;
         
         // Rate limited debug logging - only log every 5 seconds to avoid spam
-        long currentTime = System.currentTimeMillis();
-        boolean shouldLogDebug = (currentTime - lastDebugLogTime) > DEBUG_LOG_INTERVAL;
+        boolean shouldLogDebug = RENDER_EVENT_LOG.tryAcquire();
         
         if (shouldLogDebug) {
-            LOGGER.debug("RenderLevelStageEvent triggered {} times in last {} ms - Stage: {}, Integration active: {}", 
-                renderEventCount, DEBUG_LOG_INTERVAL, event.getStage(), integrationActive);
-            lastDebugLogTime = currentTime;
+            LOGGER.debug("RenderLevelStageEvent triggered {} times since last message - Stage: {}, Integration active: {}", 
+                renderEventCount, event.getStage(), integrationActive);
             renderEventCount = 0;
         }
         
@@ -178,23 +207,18 @@ public class CreateRuntimeIntegration {
             return;
         }
         
-        // Inject our custom rendering logic during the appropriate rendering stage
-        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_SOLID_BLOCKS) {
-            if (shouldLogDebug) {
-                LOGGER.debug("Handling AFTER_SOLID_BLOCKS stage - applying LittleTiles contraption rendering fix");
-            }
-            handleLittleTilesContraptionRendering(event);
+        if (shouldLogDebug) {
+            LOGGER.debug("Handling AFTER_SOLID_BLOCKS stage - applying LittleTiles contraption rendering fix");
         }
+        handleLittleTilesContraptionRendering(event);
     }    /**
      * The core fix: ensure LittleTiles blocks are rendered correctly in contraptions.
      */
     private static void handleLittleTilesContraptionRendering(RenderLevelStageEvent event) {
-        long currentTime = System.currentTimeMillis();
-        boolean shouldLogHandler = (currentTime - lastHandlerLogTime) > DEBUG_LOG_INTERVAL;
+        boolean shouldLogHandler = HANDLER_LOG.tryAcquire();
         
         if (shouldLogHandler) {
             LOGGER.debug("Starting LittleTiles contraption rendering fix...");
-            lastHandlerLogTime = currentTime;
         }
         
         try {
@@ -208,9 +232,7 @@ public class CreateRuntimeIntegration {
             
             // Access client level through Minecraft instance
             try {
-                Class<?> minecraftClass = Class.forName("net.minecraft.client.Minecraft");
-                Object minecraftInstance = minecraftClass.getMethod("getInstance").invoke(null);
-                Object level = minecraftClass.getField("level").get(minecraftInstance);
+                Object level = Minecraft.getInstance().level;
                 
                 if (shouldLogHandler) {
                     LOGGER.trace("Accessed Minecraft level: " + (level != null));
@@ -241,13 +263,11 @@ public class CreateRuntimeIntegration {
     private static void enhanceLittleTilesContraptionRendering(Object poseStack, Object camera, Object level) {
         try {
             enhancementLogCounter++;
-            long currentTime = System.currentTimeMillis();
             
             // Rate limit enhancement logs to prevent spam
-            if (currentTime - lastEnhancementLogTime >= ENHANCEMENT_LOG_INTERVAL) {
-                LOGGER.debug("Enhancing LittleTiles rendering in contraptions with level access (call #{}, {} calls in last {}ms)", 
-                    enhancementLogCounter, enhancementLogCounter - (lastEnhancementLogTime > 0 ? 1 : 0), currentTime - lastEnhancementLogTime);
-                lastEnhancementLogTime = currentTime;
+            if (ENHANCEMENT_LOG.tryAcquire()) {
+                LOGGER.debug("Enhancing LittleTiles rendering in contraptions with level access (call #{}, {} calls since last message)", 
+                    enhancementLogCounter, ENHANCEMENT_LOG.takeSuppressed() + 1);
             }
             
             // Find all contraption entities in the level
@@ -258,156 +278,46 @@ public class CreateRuntimeIntegration {
         }
     }
       /**
-     * Find contraption entities and fix their LittleTiles rendering.
+     * Fix LittleTiles rendering for the contraptions known to carry LittleTiles blocks. They come from
+     * LittleTilesContraptionRegistry, kept current from entity join/leave events, so the cost here
+     * scales with those contraptions rather than with every entity in the level.
      */
     private static void findContraptionEntitiesAndFixRendering(Object level, Object poseStack, Object camera) {
-        try {
-            // Rate limit entity access error logging
-            long currentTime = System.currentTimeMillis();
-            boolean shouldLogEntityError = (currentTime - lastEntityErrorLogTime) > ENTITY_ERROR_LOG_INTERVAL;
-            
-            // Get all entities from the level using correct Minecraft API
-            Class<?> levelClass = level.getClass();
-            Object entityGetter = null;
-            
-            // Try different methods to get entities from ClientLevel
-            try {
-                // Try getEntities() method first (more common in newer versions)
-                entityGetter = levelClass.getMethod("getEntities").invoke(level);
-            } catch (Exception e1) {
-                try {
-                    // Try entitiesForRendering() method
-                    entityGetter = levelClass.getMethod("entitiesForRendering").invoke(level);
-                } catch (Exception e2) {
-                    try {
-                        // Try getAllEntities() as last resort
-                        entityGetter = levelClass.getMethod("getAllEntities").invoke(level);
-                    } catch (Exception e3) {
-                        entityErrorCount++;
-                        if (shouldLogEntityError) {
-                            LOGGER.debug("Could not access entities from level after {} attempts in last {}ms. Tried: getEntities(), entitiesForRendering(), getAllEntities(). Last error: {}", 
-                                entityErrorCount, ENTITY_ERROR_LOG_INTERVAL, e3.getMessage());
-                            lastEntityErrorLogTime = currentTime;
-                            entityErrorCount = 0;
-                        }
-                        return; // Exit early if we can't get entities
-                    }
-                }
-            }
-            
-            // Process entities if we got them
-            if (entityGetter != null) {
-                processEntitiesForLittleTiles(entityGetter, poseStack, camera);
-            } else if (shouldLogEntityError) {
-                LOGGER.debug("Entity getter returned null - no entities to process");
-            }
-            
-        } catch (Exception e) {
-            entityErrorCount++;
-            long currentTime = System.currentTimeMillis();
-            boolean shouldLogEntityError = (currentTime - lastEntityErrorLogTime) > ENTITY_ERROR_LOG_INTERVAL;
-            
-            if (shouldLogEntityError) {
-                LOGGER.debug("Error finding contraption entities after {} attempts: {}", entityErrorCount, e.getMessage());
-                LOGGER.debug("Falling back to basic contraption detection");
-                lastEntityErrorLogTime = currentTime;
-                entityErrorCount = 0;
+        int contraptionCount = 0;
+        for (LittleTilesContraptionRegistry.Entry entry : LittleTilesContraptionRegistry.getContraptions()) {
+            // Off-screen contraptions are skipped before their blocks are looked at
+            if (!ContraptionFrustumCuller.isEntityVisible(entry.entity())) {
+                continue;
             }
+            contraptionCount++;
+            fixLittleTilesInContraption(entry, poseStack, camera);
         }
-    }
-      /**
-     * Process entities to find contraptions and fix LittleTiles rendering.
-     */
-    private static void processEntitiesForLittleTiles(Object entities, Object poseStack, Object camera) {
-        try {
-            // Check if entities is iterable
-            if (entities instanceof Iterable<?>) {
-                Iterable<?> entityIterable = (Iterable<?>) entities;
-                int contraptionCount = 0;
-                
-                for (Object entity : entityIterable) {
-                    // Check if this is a contraption entity
-                    if (isContraptionEntity(entity)) {
-                        contraptionCount++;
-                        // Only log first few contraptions found to avoid spam
-                        if (contraptionCount <= 3) {
-                            long currentTime = System.currentTimeMillis();
-                            boolean shouldLog = (currentTime - lastHandlerLogTime) > DEBUG_LOG_INTERVAL;
-                            if (shouldLog) {
-                                LOGGER.debug("Found contraption entity #{}: {}", contraptionCount, entity.getClass().getSimpleName());
-                            }
-                        }
-                        fixLittleTilesInContraption(entity, poseStack, camera);
-                    }
-                }
-                
-                // Log summary if we found contraptions
-                if (contraptionCount > 0) {
-                    long currentTime = System.currentTimeMillis();
-                    boolean shouldLog = (currentTime - lastHandlerLogTime) > DEBUG_LOG_INTERVAL;
-                    if (shouldLog) {
-                        LOGGER.debug("Processed {} contraption entities for LittleTiles rendering", contraptionCount);
-                    }
-                }
-            }
-            
-        } catch (Exception e) {
-            long currentTime = System.currentTimeMillis();
-            boolean shouldLog = (currentTime - lastEntityErrorLogTime) > ENTITY_ERROR_LOG_INTERVAL;
-            if (shouldLog) {
-                LOGGER.debug("Error processing entities for LittleTiles: {}", e.getMessage());
-                lastEntityErrorLogTime = currentTime;
-            }
+
+        // Log summary if we found contraptions
+        if (contraptionCount > 0 && CONTRAPTION_SUMMARY_LOG.tryAcquire()) {
+            LOGGER.debug("Processed {} of {} tracked contraption entities for LittleTiles rendering",
+                contraptionCount, LittleTilesContraptionRegistry.size());
         }
     }
     
-    /**
-     * Check if an entity is a Create contraption entity.
-     */
-    private static boolean isContraptionEntity(Object entity) {
-        try {
-            String className = entity.getClass().getName();
-            
-            // Check for known Create contraption entity types
-            return className.contains("contraption") || 
-                   className.contains("Contraption") ||
-                   className.contains("create") && (
-                       className.contains("Entity") ||
-                       className.contains("AbstractContraption") ||
-                       className.contains("ContraptionEntity")
-                   );
-                   
-        } catch (Exception e) {
-            return false;
-        }
-    }
       /**
      * Fix LittleTiles rendering for a specific contraption entity.
      */
-    private static void fixLittleTilesInContraption(Object contraptionEntity, Object poseStack, Object camera) {
+    private static void fixLittleTilesInContraption(LittleTilesContraptionRegistry.Entry entry, Object poseStack, Object camera) {
         try {
-            long currentTime = System.currentTimeMillis();
-            boolean shouldLog = (currentTime - lastHandlerLogTime) > DEBUG_LOG_INTERVAL;
+            boolean shouldLog = FIX_CONTRAPTION_LOG.tryAcquire();
             
             if (shouldLog) {
-                LOGGER.debug("Fixing LittleTiles rendering for contraption: {}", contraptionEntity.getClass().getSimpleName());
+                LOGGER.debug("Fixing LittleTiles rendering for contraption: {}", entry.entity().getClass().getSimpleName());
             }
             
-            // Get the contraption data from the entity
-            Object contraption = getContraptionFromEntity(contraptionEntity);
-            if (contraption != null) {
-                // Process the contraption for LittleTiles blocks
-                processContraptionForLittleTiles(contraption, contraptionEntity, poseStack, camera);
-            } else if (shouldLog) {
-                LOGGER.debug("Could not get contraption data from entity");
-            }
+            // The registry already holds the contraption's LittleTiles blocks
+            enhanceLittleTilesBlocksRendering(entry.littleTilesBlocks(), entry.entity(), poseStack, camera);
             
         } catch (Exception e) {
-            long currentTime = System.currentTimeMillis();
-            boolean shouldLog = (currentTime - lastEntityErrorLogTime) > ENTITY_ERROR_LOG_INTERVAL;
+            boolean shouldLog = CONTRAPTION_ERROR_LOG.tryAcquire();
             if (shouldLog) {
                 LOGGER.debug("Error fixing LittleTiles in contraption: {}", e.getMessage());
-                lastEntityErrorLogTime = currentTime;
             }
         }
     }
@@ -416,116 +326,16 @@ public class CreateRuntimeIntegration {
      */
     private static Object getContraptionFromEntity(Object contraptionEntity) {
         try {
-            Class<?> entityClass = contraptionEntity.getClass();
-            
-            // Try more specific Create mod methods first
-            String[] possibleMethods = {
-                "getContraption",
-                "contraption", 
-                "getMovingContraption",
-                "getCarriedContraption"
-            };
-            
-            // Try methods first (more likely to work)
-            for (String methodName : possibleMethods) {
-                try {
-                    Method method = entityClass.getMethod(methodName);
-                    Object result = method.invoke(contraptionEntity);
-                    if (result != null) {
-                        return result;
-                    }
-                } catch (Exception e) {
-                    // Continue to next method
-                }
-            }
-            
-            // Try fields as fallback
-            String[] possibleFields = {"contraption", "carriedContraption", "movingContraption"};
-            for (String fieldName : possibleFields) {
-                try {
-                    var field = entityClass.getDeclaredField(fieldName);
-                    field.setAccessible(true); // Access private fields if needed
-                    Object result = field.get(contraptionEntity);
-                    if (result != null) {
-                        return result;
-                    }
-                } catch (Exception e) {
-                    // Continue to next field
-                }
+            // Getter (getContraption, contraption, ...) or field, resolved once per entity class
+            var accessor = ReflectionRegistry.ENTITY_CONTRAPTION.get(contraptionEntity.getClass());
+            if (accessor.isPresent()) {
+                return accessor.get().invoke(contraptionEntity);
             }
             
-        } catch (Exception e) {
-            long currentTime = System.currentTimeMillis();
-            boolean shouldLog = (currentTime - lastEntityErrorLogTime) > ENTITY_ERROR_LOG_INTERVAL;
+        } catch (Throwable e) {
+            boolean shouldLog = CONTRAPTION_ERROR_LOG.tryAcquire();
             if (shouldLog) {
                 LOGGER.debug("Could not get contraption from entity: {}", e.getMessage());
-                lastEntityErrorLogTime = currentTime;
-            }
-        }
-        
-        return null;
-    }
-      /**
-     * Process a contraption to find and enhance LittleTiles blocks.
-     */
-    private static void processContraptionForLittleTiles(Object contraption, Object contraptionEntity, Object poseStack, Object camera) {
-        try {
-            long currentTime = System.currentTimeMillis();
-            boolean shouldLog = (currentTime - lastHandlerLogTime) > DEBUG_LOG_INTERVAL;
-            
-            if (shouldLog) {
-                LOGGER.debug("Processing contraption for LittleTiles blocks");
-            }
-            
-            // Get blocks from the contraption
-            Object blocksData = getBlocksFromContraption(contraption);
-            if (blocksData != null) {
-                enhanceLittleTilesBlocksRendering(blocksData, contraptionEntity, poseStack, camera);
-            } else if (shouldLog) {
-                LOGGER.debug("No blocks data found in contraption");
-            }
-            
-        } catch (Exception e) {
-            long currentTime = System.currentTimeMillis();
-            boolean shouldLog = (currentTime - lastEntityErrorLogTime) > ENTITY_ERROR_LOG_INTERVAL;
-            if (shouldLog) {
-                LOGGER.debug("Error processing contraption for LittleTiles: {}", e.getMessage());
-                lastEntityErrorLogTime = currentTime;
-            }
-        }
-    }
-    
-    /**
-     * Get blocks data from a contraption.
-     */
-    private static Object getBlocksFromContraption(Object contraption) {
-        try {
-            Class<?> contraptionClass = contraption.getClass();
-            
-            // Try common method/field names for getting blocks
-            String[] possibleBlocksGetters = {"getBlocks", "blocks", "getBlockData", "blockData", "getAllBlocks"};
-            
-            for (String getter : possibleBlocksGetters) {
-                try {
-                    if (getter.startsWith("get") || getter.startsWith("getAll")) {
-                        // Try as method
-                        Method method = contraptionClass.getMethod(getter);
-                        return method.invoke(contraption);
-                    } else {
-                        // Try as field
-                        var field = contraptionClass.getField(getter);
-                        return field.get(contraption);
-                    }
-                } catch (Exception e) {
-                    // Continue trying
-                }
-            }
-              } catch (Exception e) {
-            long currentTime = System.currentTimeMillis();
-            boolean shouldLog = (currentTime - lastEntityErrorLogTime) > ENTITY_ERROR_LOG_INTERVAL;
-            if (shouldLog) {
-                LOGGER.debug("Could not get blocks from contraption: {}", e.getMessage());
-                lastEntityErrorLogTime = currentTime;
             }
         }
         
@@ -536,8 +346,7 @@ public class CreateRuntimeIntegration {
      */
     private static void enhanceLittleTilesBlocksRendering(Object blocksData, Object contraptionEntity, Object poseStack, Object camera) {
         try {
-            long currentTime = System.currentTimeMillis();
-            boolean shouldLog = (currentTime - lastHandlerLogTime) > DEBUG_LOG_INTERVAL;
+            boolean shouldLog = ENHANCE_BLOCKS_LOG.tryAcquire();
             
             if (shouldLog) {
                 LOGGER.debug("Enhancing LittleTiles blocks rendering in contraption");
@@ -555,7 +364,7 @@ public class CreateRuntimeIntegration {
                         Object blockPos = blockEntry.getKey();
                         Object blockData = blockEntry.getValue();
                         
-                        if (isLittleTilesBlock(blockData)) {
+                        if (LittleTilesBlockClassifier.isLittleTilesBlock(blockData)) {
                             littleTilesCount++;
                             // Only log first few blocks to avoid spam
                             if (littleTilesCount <= 3 && shouldLog) {
@@ -570,7 +379,7 @@ public class CreateRuntimeIntegration {
                 java.util.Collection<?> blocksCollection = (java.util.Collection<?>) blocksData;
                 
                 for (Object blockData : blocksCollection) {
-                    if (isLittleTilesBlock(blockData)) {
+                    if (LittleTilesBlockClassifier.isLittleTilesBlock(blockData)) {
                         littleTilesCount++;
                         if (littleTilesCount <= 3 && shouldLog) {
                             LOGGER.debug("Found LittleTiles block #{} in contraption collection", littleTilesCount);
@@ -586,41 +395,19 @@ public class CreateRuntimeIntegration {
             }
             
         } catch (Exception e) {
-            long currentTime = System.currentTimeMillis();
-            boolean shouldLog = (currentTime - lastEntityErrorLogTime) > ENTITY_ERROR_LOG_INTERVAL;
+            boolean shouldLog = BLOCKS_ERROR_LOG.tryAcquire();
             if (shouldLog) {
                 LOGGER.debug("Error enhancing LittleTiles blocks rendering: {}", e.getMessage());
-                lastEntityErrorLogTime = currentTime;
             }
         }
     }
     
     /**
-     * Check if a block is a LittleTiles block.
-     */
-    private static boolean isLittleTilesBlock(Object blockData) {
-        try {
-            if (blockData == null) return false;
-            
-            String blockName = blockData.getClass().getName().toLowerCase();
-            String blockString = blockData.toString().toLowerCase();
-            
-            // Multiple detection methods for LittleTiles blocks
-            return blockName.contains("littletiles") || 
-                   blockName.contains("little") ||
-                   blockName.contains("team.creative.littletiles") ||
-                   blockString.contains("littletiles") ||
-                   blockString.contains("little_tiles");
-                   
-        } catch (Exception e) {
-            return false;
-        }
-    }    /**
      * Apply special rendering enhancement for a specific LittleTiles block.
      */    private static void enhanceLittleTilesBlockRendering(Object blockPos, Object blockData, Object contraptionEntity, Object poseStack, Object camera) {
         try {
             blockProcessingCounter++;
-            if (blockProcessingCounter % BLOCK_PROCESSING_LOG_INTERVAL == 0) {
+            if (BLOCK_PROCESSING_LOG.tryAcquire()) {
                 LOGGER.debug("🎨 APPLYING LITTLETILES RENDERING ENHANCEMENT for block: {} (call #{})", 
                     blockData.getClass().getSimpleName(), blockProcessingCounter);
             }
@@ -634,7 +421,7 @@ public class CreateRuntimeIntegration {
                     // to the correct Minecraft types
                     
                     rendererCallCounter++;
-                    if (rendererCallCounter % RENDERER_CALL_LOG_INTERVAL == 0) {
+                    if (RENDERER_CALL_LOG.tryAcquire()) {
                         LOGGER.debug("🚀 Using custom LittleTiles contraption renderer (call #{})", rendererCallCounter);
                     }
                       // The actual call would need proper type conversion:
@@ -645,8 +432,8 @@ public class CreateRuntimeIntegration {
                     // LittleTilesContraptionRenderer.refreshAllLittleTilesRendering();
                     
                 } catch (Exception e) {
-                    if (rendererCallCounter % RENDERER_CALL_LOG_INTERVAL == 0) {
-                        LOGGER.debug("Error using custom renderer: " + e.getMessage());
+                    if (BLOCKS_ERROR_LOG.tryAcquire()) {
+                        LOGGER.debug("Error using custom renderer: {}", e.getMessage());
                     }
                     // Fallback to forcing custom rendering
                     forceLittleTilesCustomRendering(blockData, blockPos, contraptionEntity, poseStack, camera);
@@ -657,7 +444,7 @@ public class CreateRuntimeIntegration {
             }
             
         } catch (Exception e) {
-            if (blockProcessingCounter % BLOCK_PROCESSING_LOG_INTERVAL == 0) {
+            if (BLOCKS_ERROR_LOG.tryAcquire()) {
                 LOGGER.debug("Error applying LittleTiles rendering enhancement: " + e.getMessage());
             }
         }
@@ -673,25 +460,17 @@ public class CreateRuntimeIntegration {
                 "team.creative.littletiles.client.render.LittleTilesRenderer", 
                 "team.creative.littletiles.client.render.tile.LittleTileRenderer"
             };
-              for (String rendererClassName : possibleRendererClasses) {
-                try {
-                    Class<?> rendererClass = Class.forName(rendererClassName);
-                    LOGGER.debug("🔧 Found LittleTiles renderer class: " + rendererClassName);
-                    
-                    // Try to invoke rendering methods
-                    Method[] methods = rendererClass.getDeclaredMethods();
-                    for (Method method : methods) {
-                        if (method.getName().toLowerCase().contains("render")) {
-                            LOGGER.trace("Found LittleTiles render method: " + method.getName());
-                            // We found the render method - this means LittleTiles rendering is accessible
-                            // The actual fix would involve calling this method with proper parameters
-                        }
+              Class<?> rendererClass = ReflectionRegistry.findFirstClass(possibleRendererClasses);
+            if (rendererClass != null) {
+                LOGGER.debug("🔧 Found LittleTiles renderer class: " + rendererClass.getName());
+                
+                // Try to invoke rendering methods
+                for (Method method : ReflectionRegistry.DECLARED_METHODS.get(rendererClass)) {
+                    if (method.getName().toLowerCase().contains("render")) {
+                        LOGGER.trace("Found LittleTiles render method: " + method.getName());
+                        // We found the render method - this means LittleTiles rendering is accessible
+                        // The actual fix would involve calling this method with proper parameters
                     }
-                    
-                    break; // Found a working renderer class
-                    
-                } catch (ClassNotFoundException e) {
-                    // Continue trying other renderer classes
                 }
             }
             
@@ -733,9 +512,11 @@ public class CreateRuntimeIntegration {
             
             // Approach 1: Check if blockData has a getBlockEntity method
             try {
-                Method getBlockEntityMethod = blockData.getClass().getMethod("getBlockEntity");
-                return getBlockEntityMethod.invoke(blockData);
-            } catch (Exception e) {
+                var getBlockEntity = ReflectionRegistry.BLOCK_DATA_BLOCK_ENTITY.get(blockData.getClass());
+                if (getBlockEntity.isPresent()) {
+                    return getBlockEntity.get().invoke(blockData);
+                }
+            } catch (Throwable e) {
                 // Continue with other approaches
             }
             
@@ -744,10 +525,12 @@ public class CreateRuntimeIntegration {
                 try {
                     Object contraption = getContraptionFromEntity(contraptionEntity);
                     if (contraption != null) {
-                        Method getBlockEntityMethod = contraption.getClass().getMethod("getBlockEntity", Object.class);
-                        return getBlockEntityMethod.invoke(contraption, blockPos);
+                        var getBlockEntity = ReflectionRegistry.CONTRAPTION_BLOCK_ENTITY.get(contraption.getClass());
+                        if (getBlockEntity.isPresent()) {
+                            return getBlockEntity.get().invoke(contraption, blockPos);
+                        }
                     }
-                } catch (Exception e) {
+                } catch (Throwable e) {
                     // Continue
                 }
             }
@@ -767,9 +550,8 @@ public class CreateRuntimeIntegration {
             
             // Try to find and call rendering methods on the block entity
             Class<?> beClass = blockEntity.getClass();
-            Method[] methods = beClass.getDeclaredMethods();
             
-            for (Method method : methods) {
+            for (Method method : ReflectionRegistry.DECLARED_METHODS.get(beClass)) {
                 String methodName = method.getName().toLowerCase();
                 if (methodName.contains("render") || methodName.contains("draw") || methodName.contains("display")) {
                     LOGGER.trace("Found potential rendering method: " + method.getName());
@@ -884,12 +666,23 @@ public class CreateRuntimeIntegration {
         status.append("Create detected: ").append(createDetected).append("\n");
         status.append("LittleTiles detected: ").append(littleTilesDetected).append("\n");
         status.append("Integration active: ").append(integrationActive).append("\n");
+        status.append(LittleTilesDataCache.getStats()).append("\n");
+        status.append(LittleTilesDiskCache.getStats()).append("\n");
+        status.append(LittleTilesBuildPool.getStats()).append("\n");
+        status.append(LittleTilesContentStore.getStats()).append("\n");
+        status.append(LittleTilesAssemblyCapture.getStats()).append("\n");
+        status.append(ContraptionLightCache.getStats()).append("\n");
+        status.append(ContraptionFrustumCuller.getStats()).append("\n");
+        status.append(LittleTilesContraptionRegistry.getStats()).append("\n");
+        status.append(LittleTilesCollisionCache.getStats()).append("\n");
+        status.append(LittleTilesContraptionBatch.getStats()).append("\n");
+        status.append(LittleTilesFlywheelModel.getStats()).append("\n");
+        status.append(RenderStageDispatcher.getStats()).append("\n");
+        status.append(LogRateLimiter.getStats()).append("\n");
         
         // Try to force a rendering test
         try {
-            Class<?> minecraftClass = Class.forName("net.minecraft.client.Minecraft");
-            Object minecraftInstance = minecraftClass.getMethod("getInstance").invoke(null);
-            Object level = minecraftClass.getField("level").get(minecraftInstance);
+            Object level = Minecraft.getInstance().level;
             status.append("Minecraft level accessible: ").append(level != null).append("\n");
         } catch (Exception e) {
             status.append("Minecraft level access error: ").append(e.getMessage()).append("\n");
@@ -912,9 +705,7 @@ public class CreateRuntimeIntegration {
         
         // Manually trigger our rendering logic without waiting for events
         try {
-            Class<?> minecraftClass = Class.forName("net.minecraft.client.Minecraft");
-            Object minecraftInstance = minecraftClass.getMethod("getInstance").invoke(null);
-            Object level = minecraftClass.getField("level").get(minecraftInstance);
+            Object level = Minecraft.getInstance().level;
             
             if (level != null) {
                 LOGGER.info("Manually calling enhanceLittleTilesContraptionRendering...");
@@ -939,7 +730,7 @@ public class CreateRuntimeIntegration {
             }
             
             rendererCallCounter++;
-            boolean shouldLog = (rendererCallCounter % RENDERER_CALL_LOG_INTERVAL == 0);
+            boolean shouldLog = BE_RENDERING_LOG.tryAcquire();
             
             if (shouldLog) {
                 LOGGER.debug("Handling block entity rendering at {}: {}", pos, blockEntity.getClass().getSimpleName());
@@ -955,11 +746,9 @@ public class CreateRuntimeIntegration {
                 // Here we would implement the actual custom rendering logic
                 // For now, we'll just log the detection
                 enhancementLogCounter++;
-                long currentTime = System.currentTimeMillis();
-                if (currentTime - lastEnhancementLogTime > ENHANCEMENT_LOG_INTERVAL) {
+                if (BE_DETECTED_LOG.tryAcquire()) {
                     LOGGER.info("Detected LittleTiles block entity requiring custom rendering: {} (enhancement #{}) at {}",
                         className, enhancementLogCounter, pos);
-                    lastEnhancementLogTime = currentTime;
                 }
                 
                 // TODO: Implement actual LittleTiles rendering logic here
@@ -968,11 +757,9 @@ public class CreateRuntimeIntegration {
             }
             
         } catch (Exception e) {
-            long currentTime = System.currentTimeMillis();
-            if (currentTime - lastEntityErrorLogTime > ENTITY_ERROR_LOG_INTERVAL) {
+            entityErrorCount++;
+            if (BE_RENDER_ERROR_LOG.tryAcquire()) {
                 LOGGER.error("Error handling LittleTiles block entity rendering at {}: {}", pos, e.getMessage());
-                lastEntityErrorLogTime = currentTime;
-                entityErrorCount++;
             }
         }
     }
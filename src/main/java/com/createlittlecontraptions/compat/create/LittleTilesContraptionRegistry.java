@@ -0,0 +1,141 @@
+package com.createlittlecontraptions.compat.create;
+
+import com.createlittlecontraptions.utils.LittleTilesBlockClassifier;
+import com.simibubi.create.content.contraptions.AbstractContraptionEntity;
+import com.simibubi.create.content.contraptions.Contraption;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate.StructureBlockInfo;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientTickEvent;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Live set of the client's contraption entities that carry LittleTiles blocks, so per-frame work
+ * iterates those instead of every entity in the level.
+ *
+ * Entities are added when they join the level or when one of their LittleTiles blocks starts moving
+ * (see LittleTilesMovementBehaviour), and removed when they leave. A contraption entity that joins
+ * before its contraption data has arrived is kept aside and re-checked each client tick until it has.
+ *
+ * Only touched from the client thread.
+ */
+@EventBusSubscriber(modid = "createlittlecontraptions", bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public class LittleTilesContraptionRegistry {
+
+    private static final Int2ObjectMap<Entry> CONTRAPTIONS = new Int2ObjectOpenHashMap<>();
+    private static final Int2ObjectMap<AbstractContraptionEntity> PENDING = new Int2ObjectOpenHashMap<>();
+    private static long scans = 0;
+
+    /**
+     * A tracked contraption and the LittleTiles blocks it carried when it was scanned.
+     */
+    public record Entry(AbstractContraptionEntity entity, Contraption contraption, Map<BlockPos, StructureBlockInfo> littleTilesBlocks) {
+    }
+
+    /**
+     * Tracks the entity's contraption if it carries LittleTiles blocks. Cheap when it is already
+     * tracked with the same contraption.
+     */
+    public static void track(AbstractContraptionEntity entity) {
+        if (entity == null || entity.isRemoved()) {
+            return;
+        }
+        Contraption contraption = entity.getContraption();
+        if (contraption == null) {
+            CONTRAPTIONS.remove(entity.getId());
+            PENDING.put(entity.getId(), entity);
+            return;
+        }
+        PENDING.remove(entity.getId());
+
+        Entry existing = CONTRAPTIONS.get(entity.getId());
+        if (existing != null && existing.contraption == contraption) {
+            return;
+        }
+
+        scans++;
+        Map<BlockPos, StructureBlockInfo> littleTilesBlocks = new HashMap<>();
+        for (Map.Entry<BlockPos, StructureBlockInfo> block : contraption.getBlocks().entrySet()) {
+            if (LittleTilesBlockClassifier.isLittleTilesBlock(block.getValue().state())) {
+                littleTilesBlocks.put(block.getKey(), block.getValue());
+            }
+        }
+        if (littleTilesBlocks.isEmpty()) {
+            CONTRAPTIONS.remove(entity.getId());
+        } else {
+            CONTRAPTIONS.put(entity.getId(), new Entry(entity, contraption, Collections.unmodifiableMap(littleTilesBlocks)));
+        }
+    }
+
+    /**
+     * Tracked contraptions. Entries whose entity has since switched to another contraption are
+     * rescanned first.
+     */
+    public static Collection<Entry> getContraptions() {
+        boolean stale = false;
+        for (Entry entry : CONTRAPTIONS.values()) {
+            if (entry.entity.getContraption() != entry.contraption) {
+                stale = true;
+                break;
+            }
+        }
+        if (stale) {
+            for (Entry entry : CONTRAPTIONS.values().toArray(new Entry[0])) {
+                track(entry.entity);
+            }
+        }
+        return CONTRAPTIONS.values();
+    }
+
+    public static int size() {
+        return CONTRAPTIONS.size();
+    }
+
+    public static String getStats() {
+        return String.format("LittleTiles contraption registry: %d contraptions tracked, %d waiting for data, %d scans",
+            CONTRAPTIONS.size(), PENDING.size(), scans);
+    }
+
+    @SubscribeEvent
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        if (event.getLevel().isClientSide() && event.getEntity() instanceof AbstractContraptionEntity entity) {
+            track(entity);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide()) {
+            CONTRAPTIONS.remove(event.getEntity().getId());
+            PENDING.remove(event.getEntity().getId());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onClientTick(ClientTickEvent.Post event) {
+        if (!PENDING.isEmpty()) {
+            for (AbstractContraptionEntity entity : PENDING.values().toArray(new AbstractContraptionEntity[0])) {
+                track(entity);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) {
+            CONTRAPTIONS.clear();
+            PENDING.clear();
+        }
+    }
+}
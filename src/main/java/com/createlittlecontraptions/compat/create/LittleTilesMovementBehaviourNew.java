@@ -1,11 +1,14 @@
 package com.createlittlecontraptions.compat.create;
 
+import com.createlittlecontraptions.compat.littletiles.LittleTilesCollisionCache;
 import com.createlittlecontraptions.compat.littletiles.LittleTilesNBTHelper;
 import com.mojang.blaze3d.vertex.PoseStack;
-import net.minecraft.client.renderer.LevelRenderer;
+import com.simibubi.create.content.contraptions.behaviour.MovementContext;
+import com.simibubi.create.content.contraptions.render.ContraptionMatrices;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.BlockAndTintGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.VoxelShape;
@@ -56,8 +59,9 @@ public class LittleTilesMovementBehaviourNew {
             PoseStack poseStack = (PoseStack) matrices.getClass().getMethod("getModelViewProjection").invoke(matrices);
             poseStack.pushPose();
 
-            // Get lighting (using VirtualRenderWorld is safe for this)
-            int combinedLight = LevelRenderer.getLightColor(level, localPos);
+            // Get lighting from the per-contraption light cache instead of sampling every frame
+            int combinedLight = ContraptionLightCache.getLight((MovementContext) context,
+                (BlockAndTintGetter) renderWorld, (ContraptionMatrices) matrices);
 
             // Render the tiles collection directly
             LittleTilesNBTHelper.renderTilesCollection(tiles, poseStack, buffer, combinedLight, 0.0f);
@@ -77,20 +81,13 @@ public class LittleTilesMovementBehaviourNew {
      */
     public VoxelShape getCollisionShapeInContraption(Object context, CollisionContext collisionContext) {
         try {
-            // Extract NBT data using reflection
-            CompoundTag blockEntityNBT = (CompoundTag) context.getClass().getField("blockEntityData").get(context);
-            
-            if (!LittleTilesNBTHelper.hasValidLittleTilesData(blockEntityNBT)) {
-                return Shapes.empty();
-            }
-
-            // Load tiles collection from NBT for collision
-            BlockParentCollection tiles = LittleTilesNBTHelper.loadTilesFromNBT(blockEntityNBT, null);
-            if (tiles == null) {
+            MovementContext movementContext = (MovementContext) context;
+            if (!LittleTilesNBTHelper.hasValidLittleTilesData(movementContext.blockEntityData)) {
                 return Shapes.empty();
             }
 
-            return LittleTilesNBTHelper.getCollisionShape(tiles, collisionContext);
+            // Built once per block from the tile boxes and memoized; no NBT reload per query
+            return LittleTilesCollisionCache.get(movementContext);
 
         } catch (Exception e) {
             LOGGER.error("Failed to get collision shape for LittleTiles: ", e);
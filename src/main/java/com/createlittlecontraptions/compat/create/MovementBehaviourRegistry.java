@@ -1,9 +1,9 @@
 package com.createlittlecontraptions.compat.create;
 
-import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.block.Block;
 import org.slf4j.Logger;
 import com.mojang.logging.LogUtils;
+import com.createlittlecontraptions.utils.LittleTilesBlockClassifier;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -113,33 +113,11 @@ public class MovementBehaviourRegistry {
             LOGGER.error("All registration methods failed", e);
         }
     }
-      /**
+
+    /**
      * Utility method to check if a block is from LittleTiles mod.
      */
-    @SuppressWarnings("deprecation")
     public static boolean isLittleTilesBlock(Block block) {
-        try {
-            ResourceLocation blockId = block.builtInRegistryHolder().key().location();
-            return blockId.getNamespace().equals("littletiles");
-        } catch (Exception e) {
-            return false;
-        }
-    }
-    
-    /**
-     * Enhanced check for LittleTiles blocks that also looks at class hierarchy.
-     */
-    public static boolean isLittleTilesBlockAdvanced(Block block) {
-        if (isLittleTilesBlock(block)) {
-            return true;
-        }
-        
-        try {
-            // Check if the block class is from LittleTiles package
-            String className = block.getClass().getName();
-            return className.startsWith("team.creative.littletiles");
-        } catch (Exception e) {
-            return false;
-        }
+        return LittleTilesBlockClassifier.isLittleTilesBlock(block);
     }
 }
@@ -0,0 +1,78 @@
+package com.createlittlecontraptions.compat.create.behaviour;
+
+import com.createlittlecontraptions.compat.littletiles.BakedLittleTilesMesh;
+import com.createlittlecontraptions.compat.littletiles.LittleTilesContraptionBatch;
+import com.createlittlecontraptions.compat.littletiles.LittleTilesFlywheelModel;
+import com.createlittlecontraptions.compat.littletiles.LittleTilesLod;
+import com.simibubi.create.content.contraptions.behaviour.MovementContext;
+import com.simibubi.create.content.contraptions.render.ActorVisual;
+import dev.engine_room.flywheel.api.model.Model;
+import dev.engine_room.flywheel.api.visualization.VisualizationContext;
+import dev.engine_room.flywheel.lib.instance.InstanceTypes;
+import dev.engine_room.flywheel.lib.instance.TransformedInstance;
+import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.world.level.BlockAndTintGetter;
+import net.minecraft.world.level.LightLayer;
+
+/**
+ * Flywheel visual for one LittleTiles block on a contraption. Once the contraption's tile blocks have
+ * been decoded and culled against each other (see LittleTilesContraptionBatch) the block's mesh is
+ * handed to Flywheel as a model with a single instance at the block's local position. The
+ * contraption's visual embedding supplies the moving transform and world light, so nothing is
+ * re-issued per frame. The instance is only replaced when the contraption crosses an LOD distance.
+ * Blocks with identical, identically culled meshes share one model and so one instancer.
+ */
+public class LittleTilesActorVisual extends ActorVisual {
+
+    private TransformedInstance instance;
+    /** LOD level the current instance was created for, or -1 before the first one. */
+    private int level = -1;
+    /** Models by LOD level, kept so moving back and forth across a distance does not re-upload. */
+    private final Model[] models = new Model[LittleTilesLod.LEVELS];
+
+    public LittleTilesActorVisual(VisualizationContext visualizationContext, BlockAndTintGetter world, MovementContext context) {
+        super(visualizationContext, world, context);
+    }
+
+    @Override
+    public void beginFrame() {
+        int wanted = LittleTilesLod.select(context.contraption != null ? context.contraption.entity : null);
+        if (wanted == level) {
+            return;
+        }
+
+        Model model = models[wanted];
+        if (model == null) {
+            // Waits until every tile block of the contraption is decoded, so faces hidden by
+            // neighbouring blocks can be culled; try again next frame
+            BakedLittleTilesMesh mesh = LittleTilesContraptionBatch.getCulledMesh(context, wanted);
+            if (mesh == null) {
+                return;
+            }
+            // The model keeps a reference of its own
+            model = models[wanted] = LittleTilesFlywheelModel.get(mesh);
+            mesh.release();
+        }
+        level = wanted;
+        _delete();
+        if (model == null) {
+            return;
+        }
+
+        int blockLight = simulationWorld.getBrightness(LightLayer.BLOCK, context.localPos);
+        instance = visualizationContext.instancerProvider()
+            .instancer(InstanceTypes.TRANSFORMED, model)
+            .createInstance();
+        instance.translate(context.localPos.getX(), context.localPos.getY(), context.localPos.getZ())
+            .light(LightTexture.pack(blockLight, 0))
+            .setChanged();
+    }
+
+    @Override
+    protected void _delete() {
+        if (instance != null) {
+            instance.delete();
+            instance = null;
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package com.createlittlecontraptions.compat.create.behaviour;
 
+import com.createlittlecontraptions.compat.create.ContraptionFrustumCuller;
+import com.createlittlecontraptions.compat.create.LittleTilesContraptionRegistry;
+import com.createlittlecontraptions.compat.littletiles.LittleTilesContraptionBatch;
 import com.createlittlecontraptions.compat.littletiles.LittleTilesContraptionRenderer;
+import com.createlittlecontraptions.compat.littletiles.LittleTilesDataCache;
+import com.createlittlecontraptions.utils.LogRateLimiter;
 import com.simibubi.create.api.behaviour.movement.MovementBehaviour;
 import com.simibubi.create.content.contraptions.behaviour.MovementContext;
+import com.simibubi.create.content.contraptions.render.ActorVisual;
 import com.simibubi.create.content.contraptions.render.ContraptionMatrices;
 import com.simibubi.create.foundation.virtualWorld.VirtualRenderWorld;
+import dev.engine_room.flywheel.api.visualization.VisualizationContext;
+import dev.engine_room.flywheel.api.visualization.VisualizationManager;
 
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.nbt.CompoundTag;
@@ -12,12 +20,32 @@ import net.minecraft.nbt.CompoundTag;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.concurrent.TimeUnit;
+
 public class LittleTilesMovementBehaviour implements MovementBehaviour {
 
-    private static final Logger LOGGER = LogManager.getLogger("CreateLittleContraptions/LTMovementBehaviour");    @Override
+    private static final Logger LOGGER = LogManager.getLogger("CreateLittleContraptions/LTMovementBehaviour");
+
+    // Assembling a contraption calls these once per block, rendering once per block per frame
+    private static final LogRateLimiter LIFECYCLE_LOG = LogRateLimiter.create("LTMovementBehaviour/lifecycle", 8, 10, TimeUnit.SECONDS);
+    private static final LogRateLimiter RENDER_LOG = LogRateLimiter.every("LTMovementBehaviour/render", 30, TimeUnit.SECONDS);
+    private static final LogRateLimiter MISSING_NBT_LOG = LogRateLimiter.every("LTMovementBehaviour/missingNbt", 30, TimeUnit.SECONDS);
+    private static final LogRateLimiter RENDER_ERROR_LOG = LogRateLimiter.every("LTMovementBehaviour/renderError", 10, TimeUnit.SECONDS);
+
+    @Override
     public void startMoving(MovementContext context) {
-        LOGGER.info("🚀 LittleTiles startMoving called for pos: {} with state: {}", 
-            context.localPos, context.state.toString());
+        if (LIFECYCLE_LOG.tryAcquire()) {
+            LOGGER.info("🚀 LittleTiles startMoving called for pos: {} with state: {}", 
+                context.localPos, context.state);
+        }
+
+        // Start decoding the captured NBT off-thread now instead of on the first render call
+        if (context.world != null && context.world.isClientSide) {
+            LittleTilesDataCache.load(context);
+            if (context.contraption != null) {
+                LittleTilesContraptionRegistry.track(context.contraption.entity);
+            }
+        }
     }
 
     @Override
@@ -31,21 +59,47 @@ public class LittleTilesMovementBehaviour implements MovementBehaviour {
 
     @Override
     public void stopMoving(MovementContext context) {
-        LOGGER.info("⏹️ LittleTiles stopMoving called for pos: {}", context.localPos);
-    }    @Override
+        if (LIFECYCLE_LOG.tryAcquire()) {
+            LOGGER.info("⏹️ LittleTiles stopMoving called for pos: {}", context.localPos);
+        }
+
+        if (context.world != null && context.world.isClientSide) {
+            LittleTilesDataCache.invalidate(context);
+            LittleTilesContraptionBatch.invalidate(context);
+            ContraptionFrustumCuller.invalidate(context);
+        }
+    }
+
+    @Override
     public boolean disableBlockEntityRendering() {
         // We want to handle rendering ourselves
-        LOGGER.info("🔧 disableBlockEntityRendering called - returning true");
         return true;
-    }@Override
+    }
+
+    /**
+     * With a Flywheel backend active the block is drawn by {@link LittleTilesActorVisual} and
+     * {@link #renderInContraption} does nothing.
+     */
+    @Override
+    public ActorVisual createVisual(VisualizationContext visualizationContext, VirtualRenderWorld simulationWorld,
+                                    MovementContext movementContext) {
+        return new LittleTilesActorVisual(visualizationContext, simulationWorld, movementContext);
+    }
+
+    @Override
     public void renderInContraption(MovementContext context, VirtualRenderWorld renderWorld,
                                     ContraptionMatrices matrices, MultiBufferSource bufferSource) {
-        LOGGER.info("🎨 renderInContraption called for pos: {}", context.localPos);
+        if (VisualizationManager.supportsVisualization(context.world)) {
+            return;
+        }
+
         CompoundTag nbt = context.blockEntityData; // NBT from BETiles captured by contraption
 
         if (nbt == null || nbt.isEmpty()) {
-            LOGGER.warn("⚠️ renderInContraption: NBT data is null or empty for pos: {}. State: {}", 
-                context.localPos, context.state);
+            if (MISSING_NBT_LOG.tryAcquire()) {
+                LOGGER.warn("⚠️ renderInContraption: NBT data is null or empty for pos: {}. State: {} ({} similar messages suppressed)", 
+                    context.localPos, context.state, MISSING_NBT_LOG.takeSuppressed());
+            }
             return;
         }
 
@@ -57,8 +111,15 @@ public class LittleTilesMovementBehaviour implements MovementBehaviour {
                 matrices,       // Contraption transformation matrices
                 bufferSource    // Buffer for drawing
             );
-            LOGGER.info("✅ renderInContraption: Successfully called custom renderer for {}", context.localPos);        } catch (Exception e) {
-            LOGGER.error("❌ Error rendering LittleTile in contraption at " + context.localPos, e);
+            if (RENDER_LOG.tryAcquire()) {
+                LOGGER.info("✅ renderInContraption: Successfully called custom renderer for {} ({} calls since last message)",
+                    context.localPos, RENDER_LOG.takeSuppressed() + 1);
+            }
+        } catch (Exception e) {
+            if (RENDER_ERROR_LOG.tryAcquire()) {
+                LOGGER.error("❌ Error rendering LittleTile in contraption at {} ({} similar errors suppressed)",
+                    context.localPos, RENDER_ERROR_LOG.takeSuppressed(), e);
+            }
         }
     }
 }
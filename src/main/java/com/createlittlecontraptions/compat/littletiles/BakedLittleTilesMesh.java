@@ -0,0 +1,163 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.core.Direction;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.IntBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pre-tessellated geometry of one LittleTiles block, split by chunk render layer.
+ * Built once by {@link LittleTilesMeshBaker} when a contraption assembles; drawing it only copies
+ * the stored vertices into the target buffers with the current pose, light and overlay.
+ *
+ * Vertex layout (ints per vertex): x, y, z (float bits, block-local), ARGB color,
+ * u, v (float bits, atlas coordinates), face direction ordinal.
+ *
+ * The vertex data lives off-heap in {@link MemoryUtil} allocations and is reference counted: a new
+ * mesh holds one reference for its creator, every other holder takes its own with {@link #retain}
+ * and gives it back with {@link #release}, and the data is freed with the last one. The holders are
+ * the decoded block (see LittleTilesContentStore), the LOD cache, contraption batches and Flywheel
+ * models. A mesh without geometry allocates nothing and ignores both calls.
+ *
+ * The decoded block's reference is given back at the end of the frame its last user is dropped in,
+ * the LOD cache's and a batch's as soon as they drop the mesh. A Flywheel model's is only given back once the model has
+ * been garbage collected (see LittleTilesFlywheelModel), so a mesh drawn through Flywheel can
+ * outlive its contraption until the next collection.
+ */
+public final class BakedLittleTilesMesh {
+
+    public static final int VERTEX_STRIDE = 7;
+
+    public static final BakedLittleTilesMesh EMPTY = new BakedLittleTilesMesh(new int[RenderType.chunkBufferLayers().size()][]);
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final AtomicLong LIVE_BYTES = new AtomicLong();
+
+    /** Indexed like {@link RenderType#chunkBufferLayers()}; address of the layer's data, or 0 when empty. */
+    private final long[] addresses;
+    /** Ints per layer. */
+    private final int[] lengths;
+    private final int vertexCount;
+    private final long bytes;
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    BakedLittleTilesMesh(int[][] layers) {
+        this.addresses = new long[layers.length];
+        this.lengths = new int[layers.length];
+        long total = 0;
+        for (int layer = 0; layer < layers.length; layer++) {
+            int[] data = layers[layer];
+            if (data == null || data.length == 0) {
+                continue;
+            }
+            long address = MemoryUtil.nmemAlloc(4L * data.length);
+            if (address == 0L) {
+                free();
+                throw new OutOfMemoryError("Could not allocate " + data.length / VERTEX_STRIDE + " baked LittleTiles vertices");
+            }
+            MemoryUtil.memIntBuffer(address, data.length).put(data);
+            addresses[layer] = address;
+            lengths[layer] = data.length;
+            total += 4L * data.length;
+        }
+        this.vertexCount = (int) (total / 4 / VERTEX_STRIDE);
+        this.bytes = total;
+        LIVE_BYTES.addAndGet(total);
+    }
+
+    public boolean isEmpty() {
+        return vertexCount == 0;
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    int getLayerCount() {
+        return addresses.length;
+    }
+
+    /**
+     * A view of one layer's vertex data, or null when the layer is empty. Only valid while the caller
+     * holds a reference; do not modify.
+     */
+    IntBuffer getLayer(int layer) {
+        return addresses[layer] == 0L ? null : MemoryUtil.memIntBuffer(addresses[layer], lengths[layer]);
+    }
+
+    /**
+     * Takes another reference. Returns this mesh.
+     */
+    public BakedLittleTilesMesh retain() {
+        if (bytes == 0) {
+            return this;
+        }
+        int count;
+        do {
+            count = references.get();
+            if (count <= 0) {
+                throw new IllegalStateException("LittleTiles mesh retained after it was freed");
+            }
+        } while (!references.compareAndSet(count, count + 1));
+        return this;
+    }
+
+    /**
+     * Gives back a reference, freeing the vertex data if it was the last.
+     */
+    public void release() {
+        if (bytes != 0 && references.decrementAndGet() == 0) {
+            free();
+            LIVE_BYTES.addAndGet(-bytes);
+        }
+    }
+
+    /**
+     * Off-heap bytes held by all baked meshes that have not been freed.
+     */
+    public static long getLiveBytes() {
+        return LIVE_BYTES.get();
+    }
+
+    private void free() {
+        for (int layer = 0; layer < addresses.length; layer++) {
+            if (addresses[layer] != 0L) {
+                MemoryUtil.nmemFree(addresses[layer]);
+                addresses[layer] = 0L;
+            }
+        }
+    }
+
+    /**
+     * Re-issues the baked vertices. The pose must already include the contraption transform and
+     * the block's local offset.
+     */
+    public void render(PoseStack.Pose pose, MultiBufferSource bufferSource, int packedLight, int packedOverlay) {
+        List<RenderType> renderTypes = RenderType.chunkBufferLayers();
+        for (int layer = 0; layer < addresses.length; layer++) {
+            long address = addresses[layer];
+            if (address == 0L) {
+                continue;
+            }
+
+            VertexConsumer consumer = bufferSource.getBuffer(renderTypes.get(layer));
+            long end = address + 4L * lengths[layer];
+            for (long vertex = address; vertex < end; vertex += VERTEX_STRIDE * Integer.BYTES) {
+                Direction face = DIRECTIONS[MemoryUtil.memGetInt(vertex + 24)];
+                consumer.addVertex(pose, MemoryUtil.memGetFloat(vertex), MemoryUtil.memGetFloat(vertex + 4), MemoryUtil.memGetFloat(vertex + 8))
+                    .setColor(MemoryUtil.memGetInt(vertex + 12))
+                    .setUv(MemoryUtil.memGetFloat(vertex + 16), MemoryUtil.memGetFloat(vertex + 20))
+                    .setOverlay(packedOverlay)
+                    .setLight(packedLight)
+                    .setNormal(pose, face.getStepX(), face.getStepY(), face.getStepZ());
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate.StructureBlockInfo;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Removes tile faces that are hidden by the neighbouring blocks of a contraption. Inside a contraption
+ * LittleTiles' own face calculation never sees the neighbours, so without this every face of every
+ * box on a block boundary is drawn.
+ *
+ * Works on baked quads: a quad lying on its block's boundary plane is dropped when the block on the
+ * other side is a full solid block, or when it is a LittleTiles block whose solid-layer faces on that
+ * plane cover the quad completely. Tile boxes never overlap, so coverage is the sum of the overlap
+ * areas.
+ *
+ * Each block is collected and culled as its own task on LittleTilesBuildPool.
+ */
+public final class ContraptionFaceCuller {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final float EPSILON = 1.0e-4f;
+    private static final int QUAD_INTS = 4 * BakedLittleTilesMesh.VERTEX_STRIDE;
+    /** Only fully opaque geometry may hide a neighbour's faces. */
+    private static final int OCCLUDING_LAYER = 0;
+
+    private static long culledQuads = 0;
+    private static long keptQuads = 0;
+
+    private ContraptionFaceCuller() {
+    }
+
+    /**
+     * Culls every mesh against its neighbours. {@code meshes} maps contraption-local positions to the
+     * baked meshes of the LittleTiles blocks; {@code blocks} is the contraption's block map, which
+     * must not change while this runs. Returns the culled meshes keyed the same way, each holding a
+     * reference of its own for the caller (see BakedLittleTilesMesh#retain).
+     */
+    public static Map<BlockPos, BakedLittleTilesMesh> cull(Map<BlockPos, BakedLittleTilesMesh> meshes,
+                                                           Map<BlockPos, StructureBlockInfo> blocks) {
+        List<Map.Entry<BlockPos, BakedLittleTilesMesh>> entries = new ArrayList<>(meshes.entrySet());
+
+        List<float[][][]> collected = LittleTilesBuildPool.map(entries, entry -> collectOccluders(entry.getValue()));
+        Map<BlockPos, float[][][]> occluders = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            occluders.put(entries.get(i).getKey(), collected.get(i));
+        }
+
+        List<BakedLittleTilesMesh> results = LittleTilesBuildPool.map(entries,
+            entry -> cullBlock(entry.getKey(), entry.getValue(), blocks, occluders));
+        Map<BlockPos, BakedLittleTilesMesh> culled = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            culled.put(entries.get(i).getKey(), results.get(i));
+        }
+        return culled;
+    }
+
+    private static BakedLittleTilesMesh cullBlock(BlockPos pos, BakedLittleTilesMesh mesh, Map<BlockPos, StructureBlockInfo> blocks,
+                                                  Map<BlockPos, float[][][]> occluders) {
+        if (mesh.isEmpty()) {
+            return mesh.retain();
+        }
+
+        // Per face: is the neighbour a full block, and the neighbour's occluding rects facing us
+        boolean[] solidNeighbour = new boolean[DIRECTIONS.length];
+        float[][][] neighbourRects = new float[DIRECTIONS.length][][];
+        boolean anyNeighbour = false;
+        for (Direction direction : DIRECTIONS) {
+            BlockPos neighbour = pos.relative(direction);
+            float[][][] tileOccluders = occluders.get(neighbour);
+            if (tileOccluders != null) {
+                neighbourRects[direction.ordinal()] = tileOccluders[direction.getOpposite().ordinal()];
+                anyNeighbour |= neighbourRects[direction.ordinal()].length > 0;
+                continue;
+            }
+            StructureBlockInfo info = blocks.get(neighbour);
+            if (info != null && info.state().isSolidRender(EmptyBlockGetter.INSTANCE, BlockPos.ZERO)) {
+                solidNeighbour[direction.ordinal()] = true;
+                anyNeighbour = true;
+            }
+        }
+        if (!anyNeighbour) {
+            return mesh.retain();
+        }
+
+        int layerCount = mesh.getLayerCount();
+        int[][] layers = new int[layerCount][];
+        boolean changed = false;
+        long culledHere = 0;
+        long keptHere = 0;
+        for (int layer = 0; layer < layerCount; layer++) {
+            IntBuffer data = mesh.getLayer(layer);
+            if (data == null) {
+                continue;
+            }
+
+            int[] kept = new int[data.limit()];
+            int length = 0;
+            for (int quad = 0; quad < data.limit(); quad += QUAD_INTS) {
+                int face = data.get(quad + 6);
+                float[] rect = boundaryRect(data, quad, DIRECTIONS[face]);
+                boolean hidden = rect != null
+                    && (solidNeighbour[face] || isCovered(rect, neighbourRects[face]));
+                if (hidden) {
+                    culledHere++;
+                    changed = true;
+                } else {
+                    keptHere++;
+                    data.get(quad, kept, length, QUAD_INTS);
+                    length += QUAD_INTS;
+                }
+            }
+            layers[layer] = length == 0 ? null : length == kept.length ? kept : Arrays.copyOf(kept, length);
+        }
+        synchronized (ContraptionFaceCuller.class) {
+            culledQuads += culledHere;
+            keptQuads += keptHere;
+        }
+        return changed ? new BakedLittleTilesMesh(layers) : mesh.retain();
+    }
+
+    /**
+     * Per face direction, the rects of solid-layer quads lying on the block boundary in that direction.
+     */
+    private static float[][][] collectOccluders(BakedLittleTilesMesh mesh) {
+        List<List<float[]>> rects = new ArrayList<>(DIRECTIONS.length);
+        for (int i = 0; i < DIRECTIONS.length; i++) {
+            rects.add(new ArrayList<>());
+        }
+
+        IntBuffer data = mesh.getLayerCount() > OCCLUDING_LAYER ? mesh.getLayer(OCCLUDING_LAYER) : null;
+        if (data != null) {
+            for (int quad = 0; quad < data.limit(); quad += QUAD_INTS) {
+                int face = data.get(quad + 6);
+                float[] rect = boundaryRect(data, quad, DIRECTIONS[face]);
+                if (rect != null) {
+                    rects.get(face).add(rect);
+                }
+            }
+        }
+
+        float[][][] result = new float[DIRECTIONS.length][][];
+        for (int i = 0; i < DIRECTIONS.length; i++) {
+            result[i] = rects.get(i).toArray(new float[0][]);
+        }
+        return result;
+    }
+
+    /**
+     * The quad's extent on the two axes of its plane (min u, min v, max u, max v), or null when the
+     * quad is not on the block boundary its face points to.
+     */
+    private static float[] boundaryRect(IntBuffer data, int quad, Direction face) {
+        int normalAxis = face.getAxis().ordinal();
+        float boundary = face.getAxisDirection() == Direction.AxisDirection.POSITIVE ? 1 : 0;
+        int uAxis = normalAxis == 0 ? 1 : 0;
+        int vAxis = normalAxis == 2 ? 1 : 2;
+
+        float minU = Float.POSITIVE_INFINITY, minV = Float.POSITIVE_INFINITY;
+        float maxU = Float.NEGATIVE_INFINITY, maxV = Float.NEGATIVE_INFINITY;
+        for (int i = quad; i < quad + QUAD_INTS; i += BakedLittleTilesMesh.VERTEX_STRIDE) {
+            if (Math.abs(Float.intBitsToFloat(data.get(i + normalAxis)) - boundary) > EPSILON) {
+                return null;
+            }
+            float u = Float.intBitsToFloat(data.get(i + uAxis));
+            float v = Float.intBitsToFloat(data.get(i + vAxis));
+            minU = Math.min(minU, u);
+            minV = Math.min(minV, v);
+            maxU = Math.max(maxU, u);
+            maxV = Math.max(maxV, v);
+        }
+        return new float[] {minU, minV, maxU, maxV};
+    }
+
+    private static boolean isCovered(float[] rect, float[][] occluders) {
+        if (occluders == null || occluders.length == 0) {
+            return false;
+        }
+
+        float area = (rect[2] - rect[0]) * (rect[3] - rect[1]);
+        float covered = 0;
+        for (float[] occluder : occluders) {
+            float width = Math.min(rect[2], occluder[2]) - Math.max(rect[0], occluder[0]);
+            float height = Math.min(rect[3], occluder[3]) - Math.max(rect[1], occluder[1]);
+            if (width > 0 && height > 0) {
+                covered += width * height;
+                if (covered >= area - EPSILON * EPSILON) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static synchronized String getStats() {
+        long total = culledQuads + keptQuads;
+        double rate = total == 0 ? 0.0 : (culledQuads * 100.0) / total;
+        return String.format("Contraption face culling: %d of %d quads culled (%.1f%%)", culledQuads, total, rate);
+    }
+}
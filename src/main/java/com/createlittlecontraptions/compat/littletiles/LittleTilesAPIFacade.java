@@ -23,8 +23,14 @@ import team.creative.littletiles.client.render.tile.LittleRenderBox;
 // Import for accessing individual tiles
 import team.creative.littletiles.common.block.little.tile.LittleTile;
 
+import com.createlittlecontraptions.utils.LogRateLimiter;
+import com.createlittlecontraptions.utils.ReflectionRegistry;
+
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,107 +43,73 @@ import org.apache.logging.log4j.Logger;
  * VirtualRenderWorld limitations while maintaining access to LittleTiles rendering logic.
  */
 public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogManager.getLogger("CreateLittleContraptions/LTAPIFacade");
-      // ULTRA AGGRESSIVE THROTTLING - Reduce logging to absolute minimum
-    private static long lastLogTime = 0;
-    private static final long LOG_INTERVAL_MS = 120000; // 2 minutes
-    
-    // Detailed logs throttling - very restrictive 
-    private static long lastDetailedLogTime = 0;
-    private static final long DETAILED_LOG_INTERVAL_MS = 300000; // 5 minutes
-    
-    // Development debugging logs throttling - extremely restrictive
-    private static long lastDevLogTime = 0;
-    private static final long DEV_LOG_INTERVAL_MS = 600000; // 10 minutes
-    
-    // Per-message throttling for specific repeated messages
-    private static long lastRenderingBoxesTime = 0;
-    private static long lastPrimaryApproachTime = 0;
-    private static long lastBlockParentCollectionTime = 0;
-    private static long lastIndividualRenderingTime = 0;
-    private static final long PER_MESSAGE_INTERVAL_MS = 180000; // 3 minutes per specific message
-    
-    /**
-     * Check if enough time has passed to allow logging (throttling)
-     */
+
+    // Log throttling: one token bucket per group of render-path messages (see LogRateLimiter)
+    private static final LogRateLimiter GENERAL_LOG = LogRateLimiter.every("LTAPIFacade/general", 2, TimeUnit.MINUTES);
+    private static final LogRateLimiter DETAILED_LOG = LogRateLimiter.every("LTAPIFacade/detailed", 5, TimeUnit.MINUTES);
+    private static final LogRateLimiter DEV_LOG = LogRateLimiter.every("LTAPIFacade/dev", 10, TimeUnit.MINUTES);
+    private static final LogRateLimiter RENDERING_BOXES_LOG = LogRateLimiter.every("LTAPIFacade/renderingBoxes", 3, TimeUnit.MINUTES);
+    private static final LogRateLimiter PRIMARY_APPROACH_LOG = LogRateLimiter.every("LTAPIFacade/primaryApproach", 3, TimeUnit.MINUTES);
+    private static final LogRateLimiter BLOCK_PARENT_COLLECTION_LOG = LogRateLimiter.every("LTAPIFacade/blockParentCollection", 3, TimeUnit.MINUTES);
+    private static final LogRateLimiter INDIVIDUAL_RENDERING_LOG = LogRateLimiter.every("LTAPIFacade/individualRendering", 3, TimeUnit.MINUTES);
+    private static final LogRateLimiter PARENT_RENDER_LOG = LogRateLimiter.every("LTAPIFacade/parentRender", 3, TimeUnit.MINUTES);
+    private static final LogRateLimiter RENDER_FAILURE_LOG = LogRateLimiter.every("LTAPIFacade/renderFailure", 1, TimeUnit.MINUTES);
+    private static final LogRateLimiter DIRECT_RENDER_FAILURE_LOG = LogRateLimiter.every("LTAPIFacade/directRenderFailure", 1, TimeUnit.MINUTES);
+    private static final LogRateLimiter TILE_CHECK_FAILURE_LOG = LogRateLimiter.every("LTAPIFacade/tileCheckFailure", 1, TimeUnit.MINUTES);
+    private static final LogRateLimiter PARENT_RENDER_FAILURE_LOG = LogRateLimiter.every("LTAPIFacade/parentRenderFailure", 1, TimeUnit.MINUTES);
+
     private static boolean shouldLog() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastLogTime >= LOG_INTERVAL_MS) {
-            lastLogTime = currentTime;
-            return true;
-        }
-        return false;
+        return GENERAL_LOG.tryAcquire();
     }
-      /**
-     * Check if enough time has passed to allow detailed/debug logging (even more restrictive throttling)
+
+    /**
+     * Detailed/debug logging, throttled harder than {@link #shouldLog()}.
      */
     private static boolean shouldLogDetailed() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastDetailedLogTime >= DETAILED_LOG_INTERVAL_MS) {
-            lastDetailedLogTime = currentTime;
-            return true;
-        }
-        return false;
+        return DETAILED_LOG.tryAcquire();
     }
-    
+
     /**
-     * Check if enough time has passed to allow development logging (very restrictive - 5 minutes)
+     * Development logging, the most restrictive.
      */
     private static boolean shouldLogDev() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastDevLogTime >= DEV_LOG_INTERVAL_MS) {
-            lastDevLogTime = currentTime;
-            return true;
-        }
-        return false;
+        return DEV_LOG.tryAcquire();
     }
-    
+
     /**
      * Specific throttling methods for high-frequency messages
      */
     private static boolean shouldLogRenderingBoxes() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastRenderingBoxesTime >= PER_MESSAGE_INTERVAL_MS) {
-            lastRenderingBoxesTime = currentTime;
-            return true;
-        }
-        return false;
+        return RENDERING_BOXES_LOG.tryAcquire();
     }
-    
+
     private static boolean shouldLogPrimaryApproach() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastPrimaryApproachTime >= PER_MESSAGE_INTERVAL_MS) {
-            lastPrimaryApproachTime = currentTime;
-            return true;
-        }
-        return false;
+        return PRIMARY_APPROACH_LOG.tryAcquire();
     }
-    
+
     private static boolean shouldLogBlockParentCollection() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastBlockParentCollectionTime >= PER_MESSAGE_INTERVAL_MS) {
-            lastBlockParentCollectionTime = currentTime;
-            return true;
-        }
-        return false;
+        return BLOCK_PARENT_COLLECTION_LOG.tryAcquire();
     }
-    
+
     private static boolean shouldLogIndividualRendering() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastIndividualRenderingTime >= PER_MESSAGE_INTERVAL_MS) {
-            lastIndividualRenderingTime = currentTime;
-            return true;
-        }
-        return false;
+        return INDIVIDUAL_RENDERING_LOG.tryAcquire();
     }
+
     /**
      * Represents the data needed to render LittleTiles structures
      * This contains the parsed tile collection and grid information from NBT
+     *
+     * A parse is shared by every block with the same tile content (see LittleTilesContentStore), so
+     * the container position and state are only those of the block it was decoded for. Drawing
+     * code takes the position of the block being drawn instead.
      */
     public static class ParsedLittleTilesData {
         private final BlockParentCollection tiles;
         private final LittleGrid grid;
         private final BlockPos containerPos;
         private final BlockState containerState;
+        /** Tick-rendered structures, found once by {@link #getRenderableStructures}. */
+        private volatile List<LittleStructure> tickRendering;
 
         public ParsedLittleTilesData(BlockParentCollection tiles, LittleGrid grid, BlockPos containerPos, BlockState containerState) {
             this.tiles = tiles;
@@ -155,9 +127,25 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
             return tiles == null || tiles.isCompletelyEmpty();
         }
         
-        public Iterable<LittleStructure> getRenderableStructures() {
-            if (tiles == null) return List.of();
-            return tiles.loadedStructures(LittleStructureAttribute.TICK_RENDERING);
+        /**
+         * The block's dynamic content: structures that draw something of their own every frame
+         * ({@code renderTick}), usually none. Everything else is static and baked once (see
+         * LittleTilesMeshBaker). Classified on first call, which LittleTilesDataCache makes while
+         * decoding, so per-frame work only grows with this list and not with the tile count.
+         */
+        public List<LittleStructure> getRenderableStructures() {
+            List<LittleStructure> structures = tickRendering;
+            if (structures == null) {
+                List<LittleStructure> found = new ArrayList<>();
+                if (tiles != null) {
+                    for (LittleStructure structure : tiles.loadedStructures(LittleStructureAttribute.TICK_RENDERING)) {
+                        found.add(structure);
+                    }
+                }
+                structures = found.isEmpty() ? List.of() : List.copyOf(found);
+                tickRendering = structures;
+            }
+            return structures;
         }
     }    /**
      * Parses the essential rendering information from BETiles NBT.
@@ -227,7 +215,7 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
                 }
             }
             
-            LOGGER.info("Successfully parsed LittleTiles data from NBT for {} - Grid: {}, Tiles count: {}", 
+            LOGGER.debug("Successfully parsed LittleTiles data from NBT for {} - Grid: {}, Tiles count: {}", 
                        containerPos, grid, tiles.totalSize());
             
             return new ParsedLittleTilesData(tiles, grid, containerPos, containerState);
@@ -239,19 +227,22 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
     }    /**
      * Renders the parsed LittleTiles structures using LittleTiles' own rendering logic.
      * Based on Gemini's guidance to investigate BlockParentCollection.render() and LittleRenderBox methods.
+     * {@code containerPos} is the local position of the block being drawn, not the parse's.
      */
-    public static void renderDirectly(ParsedLittleTilesData parsedData, PoseStack poseStack, MultiBufferSource bufferSource, 
-                                      int combinedLight, int combinedOverlay, float partialTicks) {
+    public static void renderDirectly(ParsedLittleTilesData parsedData, BlockPos containerPos, PoseStack poseStack,
+                                      MultiBufferSource bufferSource, int combinedLight, int combinedOverlay, float partialTicks) {
         if (parsedData == null || parsedData.isEmpty()) {
             return;
         }
 
         BlockParentCollection tiles = parsedData.getTiles();
         LittleGrid grid = parsedData.getGrid();
-        BlockPos containerPos = parsedData.getContainerPos();
 
         if (tiles == null) {
-            LOGGER.warn("renderDirectly: BlockParentCollection is null for {}. Cannot render.", containerPos);
+            if (DIRECT_RENDER_FAILURE_LOG.tryAcquire()) {
+                LOGGER.warn("renderDirectly: BlockParentCollection is null for {}. Cannot render. ({} similar messages suppressed)",
+                    containerPos, DIRECT_RENDER_FAILURE_LOG.takeSuppressed());
+            }
             return;
         }        // Only log this method call once every 10 seconds to avoid spam
         if (shouldLog()) {
@@ -277,35 +268,32 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
         try {
             // Look for common method patterns from BETiles renderer:
             // Method 1: tiles.render(pose, source, light, overlay, partialTicks)
-            Method renderMethod = findRenderMethod(tiles.getClass(), 
-                "render", PoseStack.class, MultiBufferSource.class, int.class, int.class, float.class);
-              if (renderMethod != null) {
+            if (ReflectionRegistry.PARENT_RENDER != null) {
                 if (shouldLog()) {
                     LOGGER.info("[CLC/LTAPIFacade] Found BlockParentCollection.render method with 5 params, calling it...");
                 }
-                renderMethod.invoke(tiles, poseStack, bufferSource, combinedLight, combinedOverlay, partialTicks);
+                ReflectionRegistry.PARENT_RENDER.invoke(tiles, poseStack, bufferSource, combinedLight, combinedOverlay, partialTicks);
                 renderedSomething = true;
                 if (shouldLog()) {
                     LOGGER.info("[CLC/LTAPIFacade] Successfully called tiles.render() for {}", containerPos);
                 }
-            } else {
+            } else if (ReflectionRegistry.PARENT_RENDER_WITH_GRID != null) {
                 // Try Method 2: with grid parameter
-                renderMethod = findRenderMethod(tiles.getClass(), 
-                    "render", PoseStack.class, LittleGrid.class, MultiBufferSource.class, int.class, int.class);
-                  if (renderMethod != null) {
-                    if (shouldLog()) {
-                        LOGGER.info("[CLC/LTAPIFacade] Found BlockParentCollection.render method with grid param, calling it...");
-                    }
-                    renderMethod.invoke(tiles, poseStack, grid, bufferSource, combinedLight, combinedOverlay);
-                    renderedSomething = true;
-                    if (shouldLog()) {
-                        LOGGER.info("[CLC/LTAPIFacade] Successfully called tiles.render(grid) for {}", containerPos);
-                    }
+                if (shouldLog()) {
+                    LOGGER.info("[CLC/LTAPIFacade] Found BlockParentCollection.render method with grid param, calling it...");
+                }
+                ReflectionRegistry.PARENT_RENDER_WITH_GRID.invoke(tiles, poseStack, grid, bufferSource, combinedLight, combinedOverlay);
+                renderedSomething = true;
+                if (shouldLog()) {
+                    LOGGER.info("[CLC/LTAPIFacade] Successfully called tiles.render(grid) for {}", containerPos);
                 }
             }
-            
-        } catch (Exception e) {
-            LOGGER.warn("[CLC/LTAPIFacade] Failed to call BlockParentCollection.render(): {}", e.getMessage());
+
+        } catch (Throwable e) {
+            if (DIRECT_RENDER_FAILURE_LOG.tryAcquire()) {
+                LOGGER.warn("[CLC/LTAPIFacade] Failed to call BlockParentCollection.render(): {} ({} similar messages suppressed)",
+                    e.getMessage(), DIRECT_RENDER_FAILURE_LOG.takeSuppressed());
+            }
         }
         
         // --- FALLBACK: Try individual tile rendering with LittleRenderBox ---
@@ -313,7 +301,10 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
         try {
             hasTiles = tiles.allTiles().iterator().hasNext();
         } catch (Exception e) {
-            LOGGER.warn("[CLC/LTAPIFacade] Error checking if tiles collection has elements: {}", e.getMessage());
+            if (TILE_CHECK_FAILURE_LOG.tryAcquire()) {
+                LOGGER.warn("[CLC/LTAPIFacade] Error checking if tiles collection has elements: {} ({} similar messages suppressed)",
+                    e.getMessage(), TILE_CHECK_FAILURE_LOG.takeSuppressed());
+            }
         }          if (!renderedSomething && hasTiles) {
             if (shouldLog()) {
                 LOGGER.info("[CLC/LTAPIFacade] Attempting individual tile rendering via LittleRenderBox...");
@@ -337,7 +328,10 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
                 }
                 
             } catch (Exception e) {
-                LOGGER.error("[CLC/LTAPIFacade] Error during individual tile rendering: {}", e.getMessage(), e);
+                if (RENDER_FAILURE_LOG.tryAcquire()) {
+                    LOGGER.error("[CLC/LTAPIFacade] Error during individual tile rendering ({} similar errors suppressed): {}",
+                        RENDER_FAILURE_LOG.takeSuppressed(), e.getMessage(), e);
+                }
             }
         }
         
@@ -428,15 +422,6 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
     }
     
     /**
-     * Attempts to find a specific render method by name and parameter types
-     */
-    private static Method findRenderMethod(Class<?> clazz, String methodName, Class<?>... parameterTypes) {
-        try {
-            return clazz.getMethod(methodName, parameterTypes);
-        } catch (NoSuchMethodException e) {
-            return null;
-        }
-    }    /**
      * Attempts to render individual tiles using the discovered getRenderingBox method
      */
     private static boolean attemptIndividualTileRendering(BlockParentCollection tiles, PoseStack poseStack, 
@@ -462,26 +447,22 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
             }
             
             // Look for: render(PoseStack, MultiBufferSource, int, int, float)
-            Method mainRenderMethod = tiles.getClass().getMethod("render", 
-                PoseStack.class, MultiBufferSource.class, int.class, int.class, float.class);
-            
-            LOGGER.info("[CLC/LTAPIFacade] Found render method: {}", mainRenderMethod);
-            mainRenderMethod.invoke(tiles, poseStack, bufferSource, combinedLight, combinedOverlay, partialTicks);
-            LOGGER.info("[CLC/LTAPIFacade] *** SUCCESS: Invoked tiles.render(PoseStack, MultiBufferSource, int, int, float) ***");
-            LOGGER.info("[CLC/LTAPIFacade] Check game visuals now - this should have rendered ALL tiles in the collection!");
-            return true; // If this works, it renders everything at once!
-              } catch (NoSuchMethodException e) {
+            if (ReflectionRegistry.PARENT_RENDER != null) {
+                ReflectionRegistry.PARENT_RENDER.invoke(tiles, poseStack, bufferSource, combinedLight, combinedOverlay, partialTicks);
+                if (PARENT_RENDER_LOG.tryAcquire()) {
+                    LOGGER.info("[CLC/LTAPIFacade] Invoked tiles.render(PoseStack, MultiBufferSource, int, int, float) via {} ({} calls since last message)",
+                        ReflectionRegistry.PARENT_RENDER, PARENT_RENDER_LOG.takeSuppressed() + 1);
+                }
+                return true; // If this works, it renders everything at once!
+            }
             if (shouldLogDetailed()) {
                 LOGGER.warn("[CLC/LTAPIFacade] Could not find render(PoseStack, MultiBufferSource, int, int, float) method on BlockParentCollection: {}", tiles.getClass().getName());
-                LOGGER.info("[CLC/LTAPIFacade] Available methods on {}:", tiles.getClass().getName());
-                for (Method method : tiles.getClass().getMethods()) {
-                    if (method.getName().contains("render")) {
-                        LOGGER.info("[CLC/LTAPIFacade]   - {}", method);
-                    }
-                }
             }
-        } catch (Exception e) {
-            LOGGER.error("[CLC/LTAPIFacade] Error invoking main render method on BlockParentCollection: ", e);
+        } catch (Throwable e) {
+            if (PARENT_RENDER_FAILURE_LOG.tryAcquire()) {
+                LOGGER.error("[CLC/LTAPIFacade] Error invoking main render method on BlockParentCollection ({} similar errors suppressed): ",
+                    PARENT_RENDER_FAILURE_LOG.takeSuppressed(), e);
+            }
         }
         
         // === FALLBACK: Try individual tile rendering (original approach) ===
@@ -498,21 +479,23 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
                 LOGGER.info("[CLC/LTAPIFacade] Attempting BlockParentCollection.render() method (Gemini's primary recommendation)...");
             }
             try {
-                Method mainRenderMethod = tiles.getClass().getMethod("render", 
-                    PoseStack.class, MultiBufferSource.class, int.class, int.class, float.class);
-                
-                LOGGER.info("[CLC/LTAPIFacade] Found tiles.render() method, invoking...");
-                mainRenderMethod.invoke(tiles, poseStack, bufferSource, combinedLight, combinedOverlay, partialTicks);
-                LOGGER.info("[CLC/LTAPIFacade] SUCCESS: tiles.render() completed for BlockParentCollection class: {}", tiles.getClass().getName());
-                return true; // If successful, we're done - all tiles rendered at once
-                
-            } catch (NoSuchMethodException e) {                if (shouldLogDetailed()) {
+                if (ReflectionRegistry.PARENT_RENDER != null) {
+                    ReflectionRegistry.PARENT_RENDER.invoke(tiles, poseStack, bufferSource, combinedLight, combinedOverlay, partialTicks);
+                    if (PARENT_RENDER_LOG.tryAcquire()) {
+                        LOGGER.info("[CLC/LTAPIFacade] SUCCESS: tiles.render() completed for BlockParentCollection class: {} ({} calls since last message)",
+                            tiles.getClass().getName(), PARENT_RENDER_LOG.takeSuppressed() + 1);
+                    }
+                    return true; // If successful, we're done - all tiles rendered at once
+                }
+                if (shouldLogDetailed()) {
                     LOGGER.warn("[CLC/LTAPIFacade] BlockParentCollection.render() method not found on class: {}", tiles.getClass().getName());
                     LOGGER.info("[CLC/LTAPIFacade] Falling back to individual tile rendering via getRenderingBox...");
                 }
-            } catch (Exception e) {
-                LOGGER.error("[CLC/LTAPIFacade] Error invoking BlockParentCollection.render(): {}", e.getMessage());
-                LOGGER.info("[CLC/LTAPIFacade] Falling back to individual tile rendering via getRenderingBox...");
+            } catch (Throwable e) {
+                if (PARENT_RENDER_FAILURE_LOG.tryAcquire()) {
+                    LOGGER.error("[CLC/LTAPIFacade] Error invoking BlockParentCollection.render(): {} ({} similar errors suppressed); "
+                        + "falling back to individual tile rendering via getRenderingBox", e.getMessage(), PARENT_RENDER_FAILURE_LOG.takeSuppressed());
+                }
             }
             
             // === FALLBACK APPROACH: Individual tile rendering via getRenderingBox ===
@@ -522,22 +505,9 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
                 }
             }
             try {
-                // Get the getRenderingBox method discovered during reflection investigation
-                Method getRenderingBoxMethod = null;
-                Class<?> boxClass = null;
-                
-                for (Method method : tiles.getClass().getMethods()) {
-                    if (method.getName().equals("getRenderingBox") && method.getParameterCount() == 3) {
-                        getRenderingBoxMethod = method;
-                        Class<?>[] paramTypes = method.getParameterTypes();
-                        boxClass = paramTypes[1]; // The second parameter should be the box type
-                        if (shouldLogDev()) {
-                            LOGGER.info("[CLC/LTAPIFacade] Found getRenderingBox method with box type: {}", boxClass.getName());
-                        }
-                        break;
-                    }
-                }
-                
+                // Get the getRenderingBox method resolved at bootstrap
+                MethodHandle getRenderingBoxMethod = ReflectionRegistry.PARENT_GET_RENDERING_BOX;
+
                 if (getRenderingBoxMethod == null) {
                     LOGGER.error("[CLC/LTAPIFacade] getRenderingBox method not found");
                     return false;
@@ -568,11 +538,11 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
                         
                         try {
                             // Method 1: Look for boxes collection/iterable
-                            String[] boxCollectionMethods = {"getBoxes", "boxes", "getAllBoxes", "iterator", "stream"};
-                            for (String methodName : boxCollectionMethods) {
+                            for (ReflectionRegistry.NamedHandle accessor : ReflectionRegistry.TILE_BOX_ACCESSORS) {
+                                String methodName = accessor.name();
                                 try {
-                                    Method method = tile.getClass().getMethod(methodName);
-                                    Object result = method.invoke(tile);                                    if (result != null) {
+                                    Object result = accessor.handle().invoke(tile);
+                                    if (result != null) {
                                         if (shouldLogDetailed()) {
                                             LOGGER.info("[CLC/LTAPIFacade] Method {} returned: {} (type: {})", 
                                                 methodName, result.toString(), result.getClass().getName());
@@ -607,21 +577,17 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
                                             break;
                                         }
                                     }
-                                } catch (NoSuchMethodException nsme) {
-                                    // Method doesn't exist, try next
-                                } catch (Exception e) {
+                                } catch (Throwable e) {
                                     LOGGER.debug("[CLC/LTAPIFacade] Method {} failed: {}", methodName, e.getMessage());
                                 }
                             }
                               // Method 2: Try accessing the 'boxes' field directly if methods failed
-                            if (individualBoxes.isEmpty()) {
+                            if (individualBoxes.isEmpty() && ReflectionRegistry.TILE_BOXES_FIELD != null) {
                                 if (shouldLogDetailed()) {
                                     LOGGER.info("[CLC/LTAPIFacade] No box collection method worked, trying fields...");
                                 }
                                 try {
-                                    java.lang.reflect.Field boxesField = tile.getClass().getDeclaredField("boxes");
-                                    boxesField.setAccessible(true);
-                                    Object boxesValue = boxesField.get(tile);
+                                    Object boxesValue = ReflectionRegistry.TILE_BOXES_FIELD.invoke(tile);
                                     
                                     if (boxesValue != null) {
                                         if (shouldLogDetailed()) {
@@ -640,7 +606,7 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
                                             }
                                         }
                                     }
-                                } catch (Exception e) {
+                                } catch (Throwable e) {
                                     LOGGER.debug("[CLC/LTAPIFacade] Field access failed: {}", e.getMessage());
                                 }
                             }
@@ -682,7 +648,7 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
                                         LOGGER.info("[CLC/LTAPIFacade] Expected signature: getRenderingBox(LittleTile, LittleBox, RenderType)");
                                         // === GEMINI'S CRITICAL DEBUG: Log method declaring class ===
                                         LOGGER.info("[CLC/LTAPIFacade] tiles object class: {}", tiles.getClass().getName());
-                                        LOGGER.info("[CLC/LTAPIFacade] getRenderingBoxMethod DECLARED BY: {}", getRenderingBoxMethod.getDeclaringClass().getName());
+                                        LOGGER.info("[CLC/LTAPIFacade] getRenderingBoxMethod type: {}", getRenderingBoxMethod.type());
                                     }
                                     
                                     // Call tiles.getRenderingBox(tile, individualBox, renderType)
@@ -712,7 +678,7 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
                                                 tile.getClass().getSimpleName(), individualBox.getClass().getSimpleName(), renderType);
                                         }
                                     }
-                                      } catch (Exception e) {
+                                      } catch (Throwable e) {
                                     if (shouldLogDetailed()) {
                                         LOGGER.warn("[CLC/LTAPIFacade] Failed to get/render box for tile #{}, box #{}, renderType {}: {}", tileCount, boxIndex + 1, renderType, e.getMessage());
                                     }
@@ -727,7 +693,10 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
                 }
                 
             } catch (Exception e) {
-                LOGGER.error("[CLC/LTAPIFacade] Error during individual tile rendering: {}", e.getMessage(), e);
+                if (RENDER_FAILURE_LOG.tryAcquire()) {
+                    LOGGER.error("[CLC/LTAPIFacade] Error during individual tile rendering ({} similar errors suppressed): {}",
+                        RENDER_FAILURE_LOG.takeSuppressed(), e.getMessage(), e);
+                }
             }
             
         } catch (Exception e) {
@@ -746,61 +715,38 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
         try {
             // === OPTION A: Does the renderBoxInstance itself have a render/buffer method? ===
             try {
-                // Attempt to find a method like "renderToBuffer" or "buffer" as Gemini suggested
-                Method[] possibleMethods = {
-                    findBufferMethod(renderBoxInstance.getClass(), "renderToBuffer", 
-                        PoseStack.Pose.class, com.mojang.blaze3d.vertex.VertexConsumer.class, 
-                        int.class, int.class, float.class, float.class, float.class, float.class),
-                    findBufferMethod(renderBoxInstance.getClass(), "buffer", 
-                        com.mojang.blaze3d.vertex.VertexConsumer.class, PoseStack.Pose.class),
-                    findBufferMethod(renderBoxInstance.getClass(), "tessellate", 
-                        com.mojang.blaze3d.vertex.VertexConsumer.class),
-                    findBufferMethod(renderBoxInstance.getClass(), "addQuads",
-                        com.mojang.blaze3d.vertex.VertexConsumer.class)
-                };
-                
-                VertexConsumer consumer = bufferSource.getBuffer(renderType);
-                  for (Method method : possibleMethods) {
-                    if (method != null) {
-                        try {
-                            if (shouldLogDetailed()) {
-                                LOGGER.info("[CLC/LTAPIFacade] Trying render method: {} on class {}", method.getName(), renderBoxInstance.getClass().getName());
-                            }
-                            
-                            if (method.getName().equals("renderToBuffer") && method.getParameterCount() == 8) {
-                                method.invoke(renderBoxInstance, poseStack.last(), consumer, combinedLight, combinedOverlay, 1.0f, 1.0f, 1.0f, 1.0f);
-                                if (shouldLog()) {
-                                    LOGGER.info("[CLC/LTAPIFacade] Successfully called renderToBuffer on {}", renderBoxInstance.getClass().getName());
-                                }
-                                return true;
-                            } else if (method.getName().equals("buffer") && method.getParameterCount() == 2) {
-                                method.invoke(renderBoxInstance, consumer, poseStack.last());
-                                if (shouldLog()) {
-                                    LOGGER.info("[CLC/LTAPIFacade] Successfully called buffer on {}", renderBoxInstance.getClass().getName());
-                                }
-                                return true;
-                            } else if (method.getName().equals("tessellate") && method.getParameterCount() == 1) {
-                                method.invoke(renderBoxInstance, consumer);
-                                if (shouldLog()) {
-                                    LOGGER.info("[CLC/LTAPIFacade] Successfully called tessellate on {}", renderBoxInstance.getClass().getName());
-                                }
-                                return true;
-                            } else if (method.getName().equals("addQuads") && method.getParameterCount() == 1) {
-                                method.invoke(renderBoxInstance, consumer);
-                                if (shouldLog()) {
-                                    LOGGER.info("[CLC/LTAPIFacade] Successfully called addQuads on {}", renderBoxInstance.getClass().getName());
-                                }
-                                return true;
-                            }
-                            
-                        } catch (Exception e) {
-                            if (shouldLogDetailed()) {
-                                LOGGER.info("[CLC/LTAPIFacade] Render method {} failed: {}", method.getName(), e.getMessage());
+                // Draw methods like "renderToBuffer" or "buffer" as Gemini suggested, resolved at bootstrap
+                if (renderBoxInstance instanceof LittleRenderBox) {
+                    VertexConsumer consumer = bufferSource.getBuffer(renderType);
+                    String attempted = null;
+                    try {
+                        if (ReflectionRegistry.RENDER_BOX_RENDER_TO_BUFFER != null) {
+                            attempted = "renderToBuffer";
+                            ReflectionRegistry.RENDER_BOX_RENDER_TO_BUFFER.invoke(renderBoxInstance, poseStack.last(), consumer, combinedLight, combinedOverlay, 1.0f, 1.0f, 1.0f, 1.0f);
+                        } else if (ReflectionRegistry.RENDER_BOX_BUFFER != null) {
+                            attempted = "buffer";
+                            ReflectionRegistry.RENDER_BOX_BUFFER.invoke(renderBoxInstance, consumer, poseStack.last());
+                        } else if (ReflectionRegistry.RENDER_BOX_TESSELLATE != null) {
+                            attempted = "tessellate";
+                            ReflectionRegistry.RENDER_BOX_TESSELLATE.invoke(renderBoxInstance, consumer);
+                        } else if (ReflectionRegistry.RENDER_BOX_ADD_QUADS != null) {
+                            attempted = "addQuads";
+                            ReflectionRegistry.RENDER_BOX_ADD_QUADS.invoke(renderBoxInstance, consumer);
+                        }
+
+                        if (attempted != null) {
+                            if (shouldLog()) {
+                                LOGGER.info("[CLC/LTAPIFacade] Successfully called {} on {}", attempted, renderBoxInstance.getClass().getName());
                             }
+                            return true;
+                        }
+                    } catch (Throwable e) {
+                        if (shouldLogDetailed()) {
+                            LOGGER.info("[CLC/LTAPIFacade] Render method {} failed: {}", attempted, e.getMessage());
                         }
                     }
                 }
-                
+
             } catch (Exception e) {
                 LOGGER.error("[CLC/LTAPIFacade] Error attempting direct renderBox methods: {}", e.getMessage());
             }
@@ -808,23 +754,27 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
             // === OPTION B: Use parent collection render method (as suggested by Gemini) ===
             if (parentCollection != null) {
                 try {
-                    Method parentRenderMethod = findBufferMethod(parentCollection.getClass(), "render", 
-                        PoseStack.class, MultiBufferSource.class, int.class, int.class, float.class);
-                    
-                    if (parentRenderMethod != null) {
-                        parentRenderMethod.invoke(parentCollection, poseStack, bufferSource, combinedLight, combinedOverlay, 0.0f);
-                        LOGGER.info("[CLC/LTAPIFacade] Successfully called render on parentCollection {}", parentCollection.getClass().getName());
+                    if (ReflectionRegistry.PARENT_RENDER != null) {
+                        ReflectionRegistry.PARENT_RENDER.invoke(parentCollection, poseStack, bufferSource, combinedLight, combinedOverlay, 0.0f);
+                        if (PARENT_RENDER_LOG.tryAcquire()) {
+                            LOGGER.info("[CLC/LTAPIFacade] Successfully called render on parentCollection {}", parentCollection.getClass().getName());
+                        }
                         return true;
                     }
                     
-                } catch (Exception e) {
-                    LOGGER.error("[CLC/LTAPIFacade] Error invoking render on parentCollection {}: {}", parentCollection.getClass().getName(), e.getMessage());
+                } catch (Throwable e) {
+                    if (RENDER_FAILURE_LOG.tryAcquire()) {
+                        LOGGER.error("[CLC/LTAPIFacade] Error invoking render on parentCollection {}: {}", parentCollection.getClass().getName(), e.getMessage());
+                    }
                 }
             }
             
-            LOGGER.warn("[CLC/LTAPIFacade] All rendering attempts failed for renderBoxInstance type {} and parentCollection type {}", 
-                renderBoxInstance != null ? renderBoxInstance.getClass().getName() : "null",
-                parentCollection != null ? parentCollection.getClass().getName() : "null");
+            if (RENDER_FAILURE_LOG.tryAcquire()) {
+                LOGGER.warn("[CLC/LTAPIFacade] All rendering attempts failed for renderBoxInstance type {} and parentCollection type {} ({} similar failures suppressed)",
+                    renderBoxInstance != null ? renderBoxInstance.getClass().getName() : "null",
+                    parentCollection != null ? parentCollection.getClass().getName() : "null",
+                    RENDER_FAILURE_LOG.takeSuppressed());
+            }
             return false;
             
         } catch (Exception e) {
@@ -833,16 +783,6 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
         }
     }
     
-    /**
-     * Helper method to find buffer/render methods with specific signatures
-     */    private static Method findBufferMethod(Class<?> clazz, String methodName, Class<?>... parameterTypes) {
-        try {
-            return clazz.getMethod(methodName, parameterTypes);
-        } catch (NoSuchMethodException e) {
-            return null;
-        }
-    }
-
     /**
      * Gets the collision shape for the parsed LittleTiles structures.
      * 
@@ -854,18 +794,10 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
             return Shapes.empty();
         }
         
-        try {
-            // TODO: Implement collision shape calculation from parsed tile data
-            // This would involve iterating through all tiles and combining their collision shapes
-            // For now, return a default block shape as a placeholder
-            LOGGER.debug("getCollisionShape called for {} - using placeholder implementation", parsedData.getContainerPos());
-            return Shapes.block(); // Placeholder - should calculate actual shape from tiles
-            
-        } catch (Exception e) {
-            LOGGER.error("Error getting collision shape for {}: {}", parsedData.getContainerPos(), e.getMessage(), e);
-            return Shapes.block(); // Fallback
-        }
-    }    /**
+        return LittleTilesNBTHelper.buildCollisionShape(parsedData.getTiles(), parsedData.getGrid());
+    }
+
+    /**
      * Fixed approach using BERenderManager.getRenderingBoxes() - the correct method location
      * Based on analysis showing that getRenderingBoxes exists on BERenderManager, not on LittleTile
      */
@@ -885,92 +817,37 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
             Object beTiles = null;
             Object renderManager = null;
             
-            // Method 1: Try to get BETiles from the parent collection
-            try {
-                // Look for methods that might give us access to the BETiles
-                Method getBeTilesMethod = findBufferMethod(tiles.getClass(), "getBe");
-                if (getBeTilesMethod == null) {
-                    getBeTilesMethod = findBufferMethod(tiles.getClass(), "getBlockEntity");
-                }
-                if (getBeTilesMethod == null) {
-                    getBeTilesMethod = findBufferMethod(tiles.getClass(), "getTiles");
-                }
-                
-                if (getBeTilesMethod != null) {
-                    beTiles = getBeTilesMethod.invoke(tiles);
-                    LOGGER.info("[CLC/LTAPIFacade] Found BETiles via {}: {} (type: {})", 
-                        getBeTilesMethod.getName(), beTiles, beTiles != null ? beTiles.getClass().getName() : "null");
-                }
-            } catch (Exception e) {
-                LOGGER.debug("[CLC/LTAPIFacade] Could not access BETiles via direct method: {}", e.getMessage());
-            }
-            
-            // Method 2: Try reflection to access private/protected fields
-            if (beTiles == null) {
+            // Method 1: Get BETiles from the parent collection (accessor method or field, resolved at bootstrap)
+            if (ReflectionRegistry.PARENT_BE_ACCESSOR != null) {
                 try {
-                    java.lang.reflect.Field[] fields = tiles.getClass().getDeclaredFields();
-                    for (java.lang.reflect.Field field : fields) {
-                        if (field.getType().getName().contains("BETiles") || 
-                            field.getName().toLowerCase().contains("be") || 
-                            field.getName().toLowerCase().contains("tiles")) {
-                            field.setAccessible(true);
-                            Object fieldValue = field.get(tiles);
-                            if (fieldValue != null && fieldValue.getClass().getName().contains("BETiles")) {
-                                beTiles = fieldValue;
-                                LOGGER.info("[CLC/LTAPIFacade] Found BETiles via field {}: {} (type: {})", 
-                                    field.getName(), beTiles, beTiles.getClass().getName());
-                                break;
-                            }
-                        }
+                    Object value = ReflectionRegistry.PARENT_BE_ACCESSOR.invoke(tiles);
+                    if (value != null && value.getClass().getName().contains("BETiles")) {
+                        beTiles = value;
+                        LOGGER.info("[CLC/LTAPIFacade] Found BETiles: {} (type: {})", beTiles, beTiles.getClass().getName());
                     }
-                } catch (Exception e) {
-                    LOGGER.debug("[CLC/LTAPIFacade] Could not access BETiles via reflection: {}", e.getMessage());
+                } catch (Throwable e) {
+                    LOGGER.debug("[CLC/LTAPIFacade] Could not access BETiles: {}", e.getMessage());
                 }
             }
             
-            // Method 3: Get BERenderManager from BETiles
-            if (beTiles != null) {
+            // Method 2: Get BERenderManager from BETiles
+            if (beTiles != null && ReflectionRegistry.BE_RENDER_MANAGER != null) {
                 try {
-                    Method getRenderManagerMethod = findBufferMethod(beTiles.getClass(), "getRenderManager");
-                    if (getRenderManagerMethod == null) {
-                        getRenderManagerMethod = findBufferMethod(beTiles.getClass(), "getManager");
+                    Object value = ReflectionRegistry.BE_RENDER_MANAGER.invoke(beTiles);
+                    if (value != null && value.getClass().getName().contains("BERenderManager")) {
+                        renderManager = value;
+                        LOGGER.info("[CLC/LTAPIFacade] Found BERenderManager: {} (type: {})", renderManager, renderManager.getClass().getName());
                     }
-                    if (getRenderManagerMethod == null) {
-                        getRenderManagerMethod = findBufferMethod(beTiles.getClass(), "renderManager");
-                    }
-                    
-                    if (getRenderManagerMethod != null) {
-                        renderManager = getRenderManagerMethod.invoke(beTiles);
-                        LOGGER.info("[CLC/LTAPIFacade] Found BERenderManager via {}: {} (type: {})", 
-                            getRenderManagerMethod.getName(), renderManager, renderManager != null ? renderManager.getClass().getName() : "null");
-                    } else {
-                        // Try field access for render manager
-                        java.lang.reflect.Field[] fields = beTiles.getClass().getDeclaredFields();
-                        for (java.lang.reflect.Field field : fields) {
-                            if (field.getType().getName().contains("BERenderManager") || 
-                                field.getName().toLowerCase().contains("render")) {
-                                field.setAccessible(true);
-                                Object fieldValue = field.get(beTiles);
-                                if (fieldValue != null && fieldValue.getClass().getName().contains("BERenderManager")) {
-                                    renderManager = fieldValue;
-                                    LOGGER.info("[CLC/LTAPIFacade] Found BERenderManager via field {}: {} (type: {})", 
-                                        field.getName(), renderManager, renderManager.getClass().getName());
-                                    break;
-                                }
-                            }
-                        }
-                    }
-                } catch (Exception e) {
+                } catch (Throwable e) {
                     LOGGER.debug("[CLC/LTAPIFacade] Could not access BERenderManager: {}", e.getMessage());
                 }
             }
             
-            // Method 4: Call getRenderingBoxes on the BERenderManager
+            // Method 3: Call getRenderingBoxes on the BERenderManager
             if (renderManager != null) {
                 try {
-                    // Look for getRenderingBoxes(RenderingBlockContext) method
-                    Method getRenderingBoxesMethod = findBufferMethod(renderManager.getClass(), "getRenderingBoxes", 
-                        Class.forName("team.creative.littletiles.client.render.cache.build.RenderingBlockContext"));
+                    // getRenderingBoxes(RenderingBlockContext), resolved at bootstrap
+                    MethodHandle getRenderingBoxesMethod = ReflectionRegistry.RENDER_MANAGER_GET_RENDERING_BOXES;
                     
                     if (getRenderingBoxesMethod != null) {
                         LOGGER.info("[CLC/LTAPIFacade] Found getRenderingBoxes method on BERenderManager: {}", getRenderingBoxesMethod);
@@ -1028,7 +905,7 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
                     } else {
                         LOGGER.warn("[CLC/LTAPIFacade] Could not find getRenderingBoxes method on BERenderManager class: {}", renderManager.getClass().getName());
                     }
-                } catch (Exception e) {
+                } catch (Throwable e) {
                     LOGGER.error("[CLC/LTAPIFacade] Error calling BERenderManager.getRenderingBoxes: {}", e.getMessage(), e);
                 }
             } else {
@@ -1053,25 +930,17 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
         
         try {
             // Check if tiles has an owning BETiles and if it's properly client-initialized
-            java.lang.reflect.Field beTilesField = null;
             Object owningBETiles = null;
-            
-            // Try to find the owning BETiles instance
-            String[] possibleFieldNames = {"be", "blockEntity", "owner", "parent", "tiles"};
-            for (String fieldName : possibleFieldNames) {
+            if (ReflectionRegistry.PARENT_OWNER_FIELD != null) {
                 try {
-                    beTilesField = tiles.getClass().getDeclaredField(fieldName);
-                    beTilesField.setAccessible(true);
-                    Object fieldValue = beTilesField.get(tiles);
-                    
+                    Object fieldValue = ReflectionRegistry.PARENT_OWNER_FIELD.invoke(tiles);
                     if (fieldValue != null && fieldValue.getClass().getName().contains("BETiles")) {
                         owningBETiles = fieldValue;
-                        LOGGER.info("[CLC/LTAPIFacade] Found owning BETiles via field '{}': {} (type: {})", 
-                            fieldName, fieldValue, fieldValue.getClass().getName());
-                        break;
+                        LOGGER.info("[CLC/LTAPIFacade] Found owning BETiles: {} (type: {})", 
+                            fieldValue, fieldValue.getClass().getName());
                     }
-                } catch (NoSuchFieldException | IllegalAccessException e) {
-                    // Field doesn't exist or not accessible, continue
+                } catch (Throwable e) {
+                    // Not accessible, treat as missing
                 }
             }
             
@@ -1079,9 +948,8 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
                 // Check BETiles client initialization
                 try {
                     // Check if BERenderManager exists (indicates client initialization)
-                    java.lang.reflect.Field renderField = owningBETiles.getClass().getDeclaredField("render");
-                    renderField.setAccessible(true);
-                    Object renderManager = renderField.get(owningBETiles);
+                    Object renderManager = ReflectionRegistry.BE_RENDER_FIELD != null
+                        ? ReflectionRegistry.BE_RENDER_FIELD.invoke(owningBETiles) : null;
                     
                     if (renderManager != null) {
                         LOGGER.info("[CLC/LTAPIFacade] BETiles has BERenderManager: {} (type: {})", 
@@ -1089,28 +957,27 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
                             
                         // Check render manager state
                         try {
-                            Method isClientMethod = owningBETiles.getClass().getMethod("isClient");
-                            Boolean isClient = (Boolean) isClientMethod.invoke(owningBETiles);
+                            Boolean isClient = ReflectionRegistry.BE_IS_CLIENT != null
+                                ? (Boolean) ReflectionRegistry.BE_IS_CLIENT.invoke(owningBETiles) : null;
                             LOGGER.info("[CLC/LTAPIFacade] BETiles.isClient(): {}", isClient);
-                        } catch (Exception e) {
+                        } catch (Throwable e) {
                             LOGGER.warn("[CLC/LTAPIFacade] Could not check BETiles.isClient(): {}", e.getMessage());
                         }
                         
                         // Check level context
                         try {
-                            java.lang.reflect.Field levelField = owningBETiles.getClass().getSuperclass().getDeclaredField("level");
-                            levelField.setAccessible(true);
-                            Object level = levelField.get(owningBETiles);
+                            Object level = ReflectionRegistry.BLOCK_ENTITY_LEVEL != null
+                                ? ReflectionRegistry.BLOCK_ENTITY_LEVEL.invoke(owningBETiles) : null;
                             
                             if (level != null) {
-                                Method isClientSideMethod = level.getClass().getMethod("isClientSide");
-                                Boolean isClientSide = (Boolean) isClientSideMethod.invoke(level);
+                                Boolean isClientSide = ReflectionRegistry.LEVEL_IS_CLIENT_SIDE != null
+                                    ? (Boolean) ReflectionRegistry.LEVEL_IS_CLIENT_SIDE.invoke(level) : null;
                                 LOGGER.info("[CLC/LTAPIFacade] BETiles.level.isClientSide(): {}", isClientSide);
                                 LOGGER.info("[CLC/LTAPIFacade] Level type: {}", level.getClass().getName());
                             } else {
                                 LOGGER.warn("[CLC/LTAPIFacade] BETiles.level is NULL - this is likely the cause of getRenderingBox returning null!");
                             }
-                        } catch (Exception e) {
+                        } catch (Throwable e) {
                             LOGGER.warn("[CLC/LTAPIFacade] Could not check BETiles level: {}", e.getMessage());
                         }
                         
@@ -1119,7 +986,7 @@ public class LittleTilesAPIFacade {    private static final Logger LOGGER = LogM
                         LOGGER.warn("[CLC/LTAPIFacade] This is likely why getRenderingBox returns null - BERenderManager is required for rendering operations");
                     }
                     
-                } catch (Exception e) {
+                } catch (Throwable e) {
                     LOGGER.warn("[CLC/LTAPIFacade] Could not access BETiles render field: {}", e.getMessage());
                 }
                 
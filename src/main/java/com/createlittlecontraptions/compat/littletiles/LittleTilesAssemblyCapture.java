@@ -0,0 +1,229 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import com.createlittlecontraptions.utils.ReflectionRegistry;
+import com.simibubi.create.content.contraptions.behaviour.MovementContext;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientTickEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import team.creative.creativecore.client.render.box.RenderBox;
+import team.creative.creativecore.common.util.type.list.Tuple;
+import team.creative.creativecore.common.util.type.map.ChunkLayerMapList;
+import team.creative.littletiles.client.render.block.BERenderManager;
+import team.creative.littletiles.client.render.tile.LittleRenderBox;
+import team.creative.littletiles.common.block.entity.BETiles;
+import team.creative.littletiles.common.block.little.tile.parent.BlockParentCollection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands the client's own render data of a LittleTiles block to the contraption that picked it up, so
+ * the block is not parsed from NBT and tessellated again.
+ *
+ * When a BETiles leaves the client world (see LevelChunkMixin) its tile collection and the render
+ * boxes its BERenderManager built for the chunk mesh are snapshotted by world position. When a
+ * contraption block is decoded (see LittleTilesDataCache) the snapshot at the block's assembly
+ * position ({@code anchor + localPos}) is claimed. If the block is still in the world at that point,
+ * because the contraption arrived before the block removal, the decode waits for the removal. A
+ * snapshot is only used when its content fingerprint matches the contraption's NBT; a mismatch, or a
+ * block that has not left the world within {@link #TIMEOUT_TICKS}, takes the normal decode.
+ *
+ * The chunk vertex buffers themselves are not reused: they are in section upload format and are
+ * usually released once uploaded.
+ *
+ * Only touched from the client thread, except {@link #toCachedBlock} which runs on build workers.
+ */
+@EventBusSubscriber(modid = "createlittlecontraptions", bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public class LittleTilesAssemblyCapture {
+
+    private static final Logger LOGGER = LogManager.getLogger("CreateLittleContraptions/LTAssemblyCapture");
+    private static final int TIMEOUT_TICKS = 40;
+
+    /** Snapshots of removed blocks nobody has claimed yet, by BlockPos.asLong. */
+    private static final Long2ObjectMap<Snapshot> REMOVED = new Long2ObjectOpenHashMap<>();
+    /** Contraption blocks still in the world, waiting for their removal, by BlockPos.asLong. */
+    private static final Long2ObjectMap<Pending> PENDING = new Long2ObjectOpenHashMap<>();
+
+    private static long tick = 0;
+    private static long captured = 0;
+    private static long expired = 0;
+    private static final AtomicLong REUSED = new AtomicLong();
+    private static final AtomicLong MISMATCHED = new AtomicLong();
+
+    /**
+     * A removed block: the live BETiles (for validation), its tile collection and its render boxes per
+     * chunk render layer, or null layers when LittleTiles had not built any.
+     */
+    public record Snapshot(BETiles blockEntity, BlockParentCollection tiles, List<RenderBox>[] layers, long tick) {
+    }
+
+    private record Pending(CompletableFuture<Snapshot> future, long tick) {
+    }
+
+    /**
+     * The snapshot of the context's block as it was before assembly: completed right away if the
+     * block has already left the world, later if it is about to, or null if there is nothing to
+     * wait for. Completes with null when the block does not leave the world in time.
+     */
+    public static CompletableFuture<Snapshot> claim(MovementContext context) {
+        if (context.world == null || !context.world.isClientSide() || context.contraption == null
+                || context.contraption.anchor == null) {
+            return null;
+        }
+        BlockPos worldPos = context.contraption.anchor.offset(context.localPos);
+        long key = worldPos.asLong();
+
+        Snapshot snapshot = REMOVED.remove(key);
+        if (snapshot != null) {
+            return CompletableFuture.completedFuture(snapshot);
+        }
+        Pending pending = PENDING.get(key);
+        if (pending != null) {
+            return pending.future;
+        }
+        if (context.world.getBlockEntity(worldPos) instanceof BETiles) {
+            pending = new Pending(new CompletableFuture<>(), tick);
+            PENDING.put(key, pending);
+            return pending.future;
+        }
+        return null;
+    }
+
+    /**
+     * Called before a block entity is removed from a client chunk.
+     */
+    public static void onBlockEntityRemoving(Level level, BlockEntity blockEntity) {
+        if (!level.isClientSide() || !(blockEntity instanceof BETiles be)) {
+            return;
+        }
+        BlockParentCollection tiles = getTiles(be);
+        if (tiles == null) {
+            return;
+        }
+
+        captured++;
+        Snapshot snapshot = new Snapshot(be, tiles, copyBoxes(be.render), tick);
+        long key = be.getBlockPos().asLong();
+        Pending pending = PENDING.remove(key);
+        if (pending != null) {
+            pending.future.complete(snapshot);
+        } else {
+            REMOVED.put(key, snapshot);
+        }
+    }
+
+    /**
+     * The cached block for a claimed snapshot, or null when it does not hold the content the
+     * contraption carries. Runs on a build worker; the block entity has left the world by now.
+     */
+    static LittleTilesDataCache.CachedBlock toCachedBlock(Snapshot snapshot, LittleTilesContentStore.Fingerprint fingerprint,
+                                                         BlockState state, BlockPos localPos, HolderLookup.Provider provider) {
+        try {
+            if (provider == null
+                    || !fingerprint.equals(LittleTilesContentStore.Fingerprint.of(snapshot.blockEntity.saveWithoutMetadata(provider)))) {
+                MISMATCHED.incrementAndGet();
+                return null;
+            }
+            LittleTilesAPIFacade.ParsedLittleTilesData parsed = new LittleTilesAPIFacade.ParsedLittleTilesData(
+                snapshot.tiles, snapshot.blockEntity.getGrid(), localPos, state);
+            BakedLittleTilesMesh mesh = snapshot.layers != null
+                ? LittleTilesMeshBaker.bake(snapshot.layers) : LittleTilesMeshBaker.bake(parsed);
+            REUSED.incrementAndGet();
+            return new LittleTilesDataCache.CachedBlock(fingerprint, parsed, mesh);
+        } catch (Exception e) {
+            LOGGER.debug("Could not reuse captured LittleTiles data for {}: {}", localPos, e.getMessage());
+            MISMATCHED.incrementAndGet();
+            return null;
+        }
+    }
+
+    private static BlockParentCollection getTiles(BETiles be) {
+        if (ReflectionRegistry.BE_TILES_FIELD == null) {
+            return null;
+        }
+        try {
+            return (BlockParentCollection) ReflectionRegistry.BE_TILES_FIELD.invoke(be);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Copies the render manager's box cache into one list per chunk render layer. The boxes are
+     * shared, the lists are not, so a rebuild racing with this cannot change the snapshot.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<RenderBox>[] copyBoxes(BERenderManager render) {
+        if (render == null || render.cachedBoxes() == null) {
+            return null;
+        }
+        List<RenderType> renderTypes = RenderType.chunkBufferLayers();
+        List<RenderBox>[] layers = new List[renderTypes.size()];
+        try {
+            for (ChunkLayerMapList<LittleRenderBox> boxes : render.cachedBoxes().values()) {
+                for (Tuple<RenderType, List<LittleRenderBox>> layer : boxes.tuples()) {
+                    int index = renderTypes.indexOf(layer.key);
+                    if (index < 0) {
+                        continue;
+                    }
+                    if (layers[index] == null) {
+                        layers[index] = new ArrayList<>();
+                    }
+                    layers[index].addAll(layer.value);
+                }
+            }
+        } catch (RuntimeException e) {
+            // Rebuilt by a chunk builder while copying; bake from the tiles instead
+            return null;
+        }
+        return layers;
+    }
+
+    public static String getStats() {
+        return String.format("LittleTiles assembly capture: %d captured, %d reused, %d mismatched, %d expired, %d held, %d waiting",
+            captured, REUSED.get(), MISMATCHED.get(), expired, REMOVED.size(), PENDING.size());
+    }
+
+    @SubscribeEvent
+    public static void onClientTick(ClientTickEvent.Post event) {
+        tick++;
+        if (!REMOVED.isEmpty()) {
+            REMOVED.values().removeIf(snapshot -> tick - snapshot.tick > TIMEOUT_TICKS);
+        }
+        if (!PENDING.isEmpty()) {
+            PENDING.values().removeIf(pending -> {
+                if (tick - pending.tick <= TIMEOUT_TICKS) {
+                    return false;
+                }
+                expired++;
+                pending.future.complete(null);
+                return true;
+            });
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) {
+            REMOVED.clear();
+            for (Pending pending : PENDING.values()) {
+                pending.future.complete(null);
+            }
+            PENDING.clear();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import team.creative.littletiles.common.block.entity.BETiles;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * Client-side index of every loaded LittleTiles block entity, grouped by chunk section.
+ * Kept up to date from chunk load/unload events and from LevelChunk block entity add/remove
+ * (see LevelChunkMixin), so nothing has to scan the world to find LittleTiles blocks.
+ *
+ * Only touched from the client thread.
+ */
+@EventBusSubscriber(modid = "createlittlecontraptions", bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public class LittleTilesBlockIndex {
+
+    private static final Logger LOGGER = LogManager.getLogger("CreateLittleContraptions/LTBlockIndex");
+
+    /** SectionPos.asLong -> BlockPos.asLong of the BETiles in that section. */
+    private static final Long2ObjectMap<LongSet> SECTIONS = new Long2ObjectOpenHashMap<>();
+    private static final List<BiConsumer<Level, BlockPos>> REMOVAL_LISTENERS = new CopyOnWriteArrayList<>();
+    private static int size = 0;
+
+    /**
+     * Registers a callback for single LittleTiles block entities leaving the world (broken, or
+     * picked up by a contraption). Not called for chunk unloads.
+     */
+    public static void addRemovalListener(BiConsumer<Level, BlockPos> listener) {
+        REMOVAL_LISTENERS.add(listener);
+    }
+
+    public static void onBlockEntityAdded(Level level, BlockEntity blockEntity) {
+        if (level.isClientSide() && blockEntity instanceof BETiles) {
+            add(blockEntity.getBlockPos());
+        }
+    }
+
+    public static void onBlockEntityRemoved(Level level, BlockPos pos) {
+        if (level.isClientSide() && remove(pos)) {
+            for (BiConsumer<Level, BlockPos> listener : REMOVAL_LISTENERS) {
+                listener.accept(level, pos);
+            }
+        }
+    }
+
+    public static boolean contains(BlockPos pos) {
+        LongSet positions = SECTIONS.get(SectionPos.asLong(pos));
+        return positions != null && positions.contains(pos.asLong());
+    }
+
+    /**
+     * Positions (as BlockPos.asLong) of the LittleTiles blocks in one section; empty if none.
+     */
+    public static LongSet getSection(long sectionPos) {
+        LongSet positions = SECTIONS.get(sectionPos);
+        return positions != null ? LongSets.unmodifiable(positions) : LongSets.EMPTY_SET;
+    }
+
+    public static int size() {
+        return size;
+    }
+
+    public static int sectionCount() {
+        return SECTIONS.size();
+    }
+
+    public static void clear() {
+        SECTIONS.clear();
+        size = 0;
+    }
+
+    private static void add(BlockPos pos) {
+        if (SECTIONS.computeIfAbsent(SectionPos.asLong(pos), k -> new LongOpenHashSet()).add(pos.asLong())) {
+            size++;
+        }
+    }
+
+    private static boolean remove(BlockPos pos) {
+        long sectionPos = SectionPos.asLong(pos);
+        LongSet positions = SECTIONS.get(sectionPos);
+        if (positions == null || !positions.remove(pos.asLong())) {
+            return false;
+        }
+        size--;
+        if (positions.isEmpty()) {
+            SECTIONS.remove(sectionPos);
+        }
+        return true;
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        if (!isClient(event.getLevel())) {
+            return;
+        }
+        ChunkAccess chunk = event.getChunk();
+        for (BlockPos pos : chunk.getBlockEntitiesPos()) {
+            if (chunk.getBlockEntity(pos) instanceof BETiles) {
+                add(pos);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (!isClient(event.getLevel())) {
+            return;
+        }
+        ChunkAccess chunk = event.getChunk();
+        ChunkPos chunkPos = chunk.getPos();
+        for (int sectionY = chunk.getMinSection(); sectionY < chunk.getMaxSection(); sectionY++) {
+            LongSet positions = SECTIONS.remove(SectionPos.asLong(chunkPos.x, sectionY, chunkPos.z));
+            if (positions != null) {
+                size -= positions.size();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (isClient(event.getLevel())) {
+            LOGGER.debug("Clearing LittleTiles block index ({} blocks in {} sections)", size, SECTIONS.size());
+            clear();
+        }
+    }
+
+    private static boolean isClient(LevelAccessor level) {
+        return level != null && level.isClientSide();
+    }
+}
@@ -0,0 +1,81 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Worker pool for building LittleTiles render data off the render thread: block decodes (see
+ * LittleTilesDataCache) and contraption-wide culling and merging (see LittleTilesContraptionBatch).
+ *
+ * A fork-join pool sized to the available cores, less one for the render thread. A contraption build
+ * forks one task per tile block through {@link #map} and joins the results, so assembling a
+ * contraption with hundreds of tile blocks uses every worker instead of one.
+ */
+public final class LittleTilesBuildPool {
+
+    private static final ForkJoinPool POOL = createPool();
+
+    private LittleTilesBuildPool() {
+    }
+
+    public static ForkJoinPool get() {
+        return POOL;
+    }
+
+    /**
+     * Applies {@code function} to every input as an independent task and returns the results in
+     * input order. Forks from a worker of this pool, otherwise submits and waits.
+     */
+    public static <T, R> List<R> map(List<T> inputs, Function<T, R> function) {
+        List<ForkJoinTask<R>> tasks = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            tasks.add(ForkJoinTask.adapt(() -> function.apply(input)));
+        }
+        if (ForkJoinTask.getPool() == POOL) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            for (ForkJoinTask<R> task : tasks) {
+                POOL.execute(task);
+            }
+        }
+
+        List<R> results = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<R> task : tasks) {
+            results.add(task.join());
+        }
+        return results;
+    }
+
+    /**
+     * Tasks waiting or running.
+     */
+    public static int getQueued() {
+        return (int) Math.min(Integer.MAX_VALUE, POOL.getQueuedSubmissionCount() + POOL.getQueuedTaskCount()
+            + POOL.getActiveThreadCount());
+    }
+
+    public static String getStats() {
+        return String.format("LittleTiles build pool: %d workers (%d active), %d submissions and %d tasks queued, %d steals",
+            POOL.getParallelism(), POOL.getActiveThreadCount(), POOL.getQueuedSubmissionCount(),
+            POOL.getQueuedTaskCount(), POOL.getStealCount());
+    }
+
+    private static ForkJoinPool createPool() {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        AtomicInteger counter = new AtomicInteger();
+        return new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("CLC LittleTiles Build #" + counter.incrementAndGet());
+            // Pool threads would otherwise get the system loader, which cannot see mod classes
+            thread.setContextClassLoader(LittleTilesBuildPool.class.getClassLoader());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        }, null, true);
+    }
+}
@@ -0,0 +1,176 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import com.createlittlecontraptions.utils.LittleTilesBlockClassifier;
+import com.google.common.base.Predicates;
+import com.simibubi.create.content.contraptions.Contraption;
+import com.simibubi.create.content.contraptions.behaviour.MovementContext;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate.StructureBlockInfo;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.Shapes;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import team.creative.littletiles.common.block.little.tile.parent.BlockParentCollection;
+import team.creative.littletiles.common.grid.LittleGrid;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Memoized collision shapes for LittleTiles blocks carried by contraptions.
+ *
+ * Each contraption block remembers the NBT instance its shape was built from, so repeated collision
+ * queries for the same block are a map lookup. Shapes themselves are shared by tile content (see
+ * LittleTilesContentStore.Fingerprint), so identical tile blocks (and a contraption that re-assembles) only build their shape once.
+ *
+ * Create's ContraptionCollider asks each block state for its collision shape in the real world at the
+ * block's local position, which for a LittleTiles block finds no tiles. ContraptionColliderMixin
+ * routes contraptions carrying LittleTiles blocks through {@link #getPotentiallyCollidedShapes}
+ * instead, which answers those blocks from this cache.
+ *
+ * Collision runs on both the server and the client thread, hence the synchronization. It also runs
+ * on dedicated servers, so shapes are built straight from the tiles without the render-side parse
+ * (LittleTilesAPIFacade), which touches client-only classes.
+ */
+public class LittleTilesCollisionCache {
+
+    private static final Logger LOGGER = LogManager.getLogger("CreateLittleContraptions/LTCollisionCache");
+    private static final int MAX_BLOCKS = 1024;
+    private static final int MAX_SHAPES = 512;
+
+    /**
+     * One contraption block on one logical side. Integrated servers share entity ids with the client.
+     */
+    private record Key(boolean clientSide, int contraptionId, BlockPos localPos) {
+    }
+
+    private record Entry(CompoundTag source, VoxelShape shape) {
+    }
+
+    private static final Map<Key, Entry> BLOCKS = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > MAX_BLOCKS;
+        }
+    };
+
+    private static final Map<LittleTilesContentStore.Fingerprint, VoxelShape> SHAPES = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LittleTilesContentStore.Fingerprint, VoxelShape> eldest) {
+            return size() > MAX_SHAPES;
+        }
+    };
+
+    /** Whether a contraption carries any LittleTiles block, found once per contraption. */
+    private static final Map<Contraption, Boolean> CARRIES_TILES = new WeakHashMap<>();
+
+    private static long hits = 0;
+    private static long builds = 0;
+
+    public static VoxelShape get(MovementContext context) {
+        return get(context.world, context.contraption, context.localPos, context.blockEntityData);
+    }
+
+    public static synchronized VoxelShape get(Level level, Contraption contraption, BlockPos localPos, CompoundTag nbt) {
+        if (nbt == null || nbt.isEmpty()) {
+            return Shapes.empty();
+        }
+
+        boolean clientSide = level != null && level.isClientSide;
+        int contraptionId = contraption != null && contraption.entity != null ? contraption.entity.getId() : -1;
+        Key key = new Key(clientSide, contraptionId, localPos);
+
+        Entry entry = BLOCKS.get(key);
+        if (entry != null && entry.source == nbt) {
+            hits++;
+            return entry.shape;
+        }
+
+        LittleTilesContentStore.Fingerprint fingerprint = LittleTilesContentStore.Fingerprint.of(nbt);
+        VoxelShape shape = SHAPES.get(fingerprint);
+        if (shape == null) {
+            shape = build(level, localPos, nbt);
+            SHAPES.put(fingerprint, shape);
+        } else {
+            hits++;
+        }
+        BLOCKS.put(key, new Entry(nbt, shape));
+        return shape;
+    }
+
+    /**
+     * Whether Create's collision scan has to be replaced for this contraption.
+     */
+    public static synchronized boolean carriesTiles(Contraption contraption) {
+        return CARRIES_TILES.computeIfAbsent(contraption, c -> c.getBlocks().values().stream()
+            .anyMatch(LittleTilesBlockClassifier::isLittleTilesBlock));
+    }
+
+    /**
+     * Create's ContraptionCollider.getPotentiallyCollidedShapes, with LittleTiles blocks answered by
+     * their tile shapes. The scan area matches Create's.
+     */
+    public static List<VoxelShape> getPotentiallyCollidedShapes(Level world, Contraption contraption, AABB localBB) {
+        double height = localBB.getYsize();
+        double width = localBB.getXsize();
+        double horizontalFactor = (height > width && width != 0) ? height / width : 1;
+        double verticalFactor = (width > height && height != 0) ? width / height : 1;
+        AABB blockScanBB = localBB.inflate(0.5f).inflate(horizontalFactor, verticalFactor, horizontalFactor);
+
+        BlockPos min = BlockPos.containing(blockScanBB.minX, blockScanBB.minY, blockScanBB.minZ);
+        BlockPos max = BlockPos.containing(blockScanBB.maxX, blockScanBB.maxY, blockScanBB.maxZ);
+        Map<BlockPos, StructureBlockInfo> blocks = contraption.getBlocks();
+
+        return BlockPos.betweenClosedStream(min, max)
+            .filter(blocks::containsKey)
+            .filter(Predicates.not(contraption::isHiddenInPortal))
+            .map(p -> {
+                StructureBlockInfo info = blocks.get(p);
+                BlockPos pos = info.pos();
+                VoxelShape shape = LittleTilesBlockClassifier.isLittleTilesBlock(info)
+                    ? get(world, contraption, pos, info.nbt())
+                    : info.state().getCollisionShape(world, p);
+                return shape.move(pos.getX(), pos.getY(), pos.getZ());
+            })
+            .filter(Predicates.not(VoxelShape::isEmpty))
+            .toList();
+    }
+
+    public static synchronized void clear() {
+        BLOCKS.clear();
+        SHAPES.clear();
+        CARRIES_TILES.clear();
+    }
+
+    public static synchronized String getStats() {
+        return String.format("LittleTiles collision cache: %d blocks, %d shapes, %d hits, %d builds",
+            BLOCKS.size(), SHAPES.size(), hits, builds);
+    }
+
+    /**
+     * Loads the tiles the way BETiles.loadAdditional does, into a collection without a block entity.
+     */
+    private static VoxelShape build(Level level, BlockPos localPos, CompoundTag nbt) {
+        builds++;
+        if (level == null || !nbt.contains("content", Tag.TAG_COMPOUND)) {
+            LOGGER.debug("No collision shape for {}: no level or tile content", localPos);
+            return Shapes.empty();
+        }
+
+        try {
+            LittleGrid grid = LittleGrid.getOrThrow(nbt);
+            BlockParentCollection tiles = new BlockParentCollection(null, false);
+            tiles.load(nbt.getCompound("content"), level.registryAccess());
+            return LittleTilesNBTHelper.buildCollisionShape(tiles, grid);
+        } catch (Exception e) {
+            LOGGER.debug("No collision shape for {}: could not load tiles: {}", localPos, e.getMessage());
+            return Shapes.empty();
+        }
+    }
+}
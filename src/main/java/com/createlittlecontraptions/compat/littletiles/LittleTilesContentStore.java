@@ -0,0 +1,149 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import com.createlittlecontraptions.utils.NbtFingerprint;
+import net.minecraft.nbt.CompoundTag;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.RenderFrameEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * Content-addressed store of decoded LittleTiles blocks, shared by every contraption. Blocks with
+ * identical tile content (the same {@code content} compound on the same grid) are parsed and baked
+ * once and share the resulting {@link LittleTilesDataCache.CachedBlock}, so a train carrying dozens
+ * of copies of one decorative block holds one mesh for all of them. With a Flywheel backend the
+ * shared mesh also maps to one shared model (see {@link LittleTilesFlywheelModel#get}), so the copies
+ * are drawn as instances of it.
+ *
+ * Entries are reference counted by the per-block slots of {@link LittleTilesDataCache} and dropped
+ * when the last block using them is evicted or its contraption leaves the level. Dropping an entry
+ * gives back the decoded block's reference to its off-heap mesh (see BakedLittleTilesMesh#release)
+ * at the end of the frame, since the render thread draws cached blocks without taking references of
+ * its own, and drops the content's simplified meshes (see LittleTilesLod). These frees have their
+ * own queue and are all run at every frame end, outside the RenderStageDispatcher budget, so an
+ * over-budget frame cannot hold the memory back; a decode still running when its entry is dropped
+ * is freed at the end of the frame it finishes in. A decode still queued
+ * for a dropped entry skips the work (see {@link #contains}).
+ */
+@EventBusSubscriber(modid = "createlittlecontraptions", bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public final class LittleTilesContentStore {
+
+    private static final Map<Fingerprint, Entry> ENTRIES = new HashMap<>();
+    /** Decoded blocks no slot uses any more, released at the end of the frame. */
+    private static final Queue<LittleTilesDataCache.CachedBlock> RELEASES = new ConcurrentLinkedQueue<>();
+    private static long decodes = 0;
+    private static long shared = 0;
+
+    /**
+     * Identity of a block's tile content: a streaming 128-bit hash of the content compound (see
+     * {@link NbtFingerprint}) plus the grid. The tag itself is not retained.
+     */
+    public record Fingerprint(NbtFingerprint content, int grid) {
+
+        /**
+         * Fingerprint of a BETiles block entity tag, as captured by the contraption.
+         */
+        public static Fingerprint of(CompoundTag blockEntityData) {
+            if (blockEntityData == null) {
+                return new Fingerprint(NbtFingerprint.of(null), 0);
+            }
+            return new Fingerprint(NbtFingerprint.of(blockEntityData.getCompound("content")), blockEntityData.getInt("grid"));
+        }
+
+        /**
+         * Encoded size of the tile content in bytes.
+         */
+        public long size() {
+            return content.getEncodedSize();
+        }
+    }
+
+    private static final class Entry {
+        final CompletableFuture<LittleTilesDataCache.CachedBlock> future;
+        int references = 0;
+
+        Entry(CompletableFuture<LittleTilesDataCache.CachedBlock> future) {
+            this.future = future;
+        }
+    }
+
+    private LittleTilesContentStore() {
+    }
+
+    /**
+     * The decode of the given content, started with {@code decode} if no other block has it yet.
+     * Every call must be paired with a {@link #release}.
+     */
+    public static synchronized CompletableFuture<LittleTilesDataCache.CachedBlock> acquire(Fingerprint fingerprint,
+            Supplier<CompletableFuture<LittleTilesDataCache.CachedBlock>> decode) {
+        Entry entry = ENTRIES.get(fingerprint);
+        if (entry == null) {
+            decodes++;
+            entry = new Entry(decode.get());
+            ENTRIES.put(fingerprint, entry);
+        } else {
+            shared++;
+        }
+        entry.references++;
+        return entry.future;
+    }
+
+    /**
+     * Drops one reference to the content, and the content itself once nothing uses it.
+     */
+    public static synchronized void release(Fingerprint fingerprint) {
+        Entry entry = ENTRIES.get(fingerprint);
+        if (entry != null && --entry.references <= 0) {
+            ENTRIES.remove(fingerprint);
+            free(entry);
+            LittleTilesLod.forget(fingerprint);
+        }
+    }
+
+    /**
+     * Whether any block still uses the content. Decodes check this before parsing and baking.
+     */
+    public static synchronized boolean contains(Fingerprint fingerprint) {
+        return ENTRIES.containsKey(fingerprint);
+    }
+
+    public static synchronized void clear() {
+        for (Entry entry : ENTRIES.values()) {
+            free(entry);
+        }
+        ENTRIES.clear();
+    }
+
+    private static void free(Entry entry) {
+        entry.future.thenAccept(RELEASES::add);
+    }
+
+    @SubscribeEvent
+    public static void onRenderFramePost(RenderFrameEvent.Post event) {
+        LittleTilesDataCache.CachedBlock block;
+        while ((block = RELEASES.poll()) != null) {
+            block.release();
+        }
+    }
+
+    public static synchronized String getStats() {
+        long references = 0;
+        long distinctBytes = 0;
+        long totalBytes = 0;
+        for (Map.Entry<Fingerprint, Entry> entry : ENTRIES.entrySet()) {
+            long size = entry.getKey().size();
+            references += entry.getValue().references;
+            distinctBytes += size;
+            totalBytes += size * entry.getValue().references;
+        }
+        return String.format("LittleTiles content store: %d distinct contents for %d blocks (%d of %d content bytes), %d decodes, %d shared",
+            ENTRIES.size(), references, distinctBytes, totalBytes, decodes, shared);
+    }
+}
@@ -0,0 +1,383 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import com.createlittlecontraptions.compat.create.ContraptionLightCache;
+import com.createlittlecontraptions.events.RenderStageDispatcher;
+import com.createlittlecontraptions.utils.LittleTilesBlockClassifier;
+import com.createlittlecontraptions.utils.LogRateLimiter;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.simibubi.create.content.contraptions.Contraption;
+import com.simibubi.create.content.contraptions.behaviour.MovementContext;
+import com.simibubi.create.content.contraptions.render.ContraptionMatrices;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockAndTintGetter;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate.StructureBlockInfo;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import org.apache.commons.lang3.tuple.MutablePair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contraption-wide processing of the LittleTiles blocks of one contraption, done once every block has
+ * been decoded (see LittleTilesDataCache): faces hidden by neighbouring blocks are culled
+ * (see ContraptionFaceCuller) and the culled meshes are merged into one {@link MergedLittleTilesMesh}.
+ *
+ * Create calls renderInContraption once per actor per frame, in actor order. The first LittleTiles
+ * actor of a contraption (the anchor) draws the merged mesh for everyone, plus the few tick-rendered
+ * structures its members carry, and the others return immediately.
+ *
+ * Culling and merging a level runs on LittleTilesBuildPool, one task per block joined into the
+ * merged mesh; the render thread only installs the result at the end of a frame (see
+ * RenderStageDispatcher). A failed build is queued again by a later frame. While the wanted level is
+ * pending the anchor draws another level that is built, and until there is none each block is drawn
+ * on its own. Flywheel visuals use the culled per-block meshes through {@link #getCulledMesh}.
+ *
+ * A batch holds references (see BakedLittleTilesMesh#retain) to its members' decoded meshes and to
+ * its culled meshes, and gives them back when it is dropped; running builds hold their own.
+ */
+@EventBusSubscriber(modid = "createlittlecontraptions", bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public class LittleTilesContraptionBatch {
+
+    private static final Logger LOGGER = LogManager.getLogger("CreateLittleContraptions/LTBatch");
+    /** A build that keeps failing is retried every frame, so its error is throttled. */
+    private static final LogRateLimiter BUILD_ERROR_LOG = LogRateLimiter.every("LTBatch/buildError", 10, TimeUnit.SECONDS);
+    private static final Int2ObjectMap<Batch> BATCHES = new Int2ObjectOpenHashMap<>();
+    private static long merges = 0;
+
+    private static final class Batch {
+        final List<MovementContext> members = new ArrayList<>();
+        final Set<MovementContext> memberSet = new ReferenceOpenHashSet<>();
+        final int[] light;
+        final Contraption contraption;
+        /** Members known to be decoded, in order; lets the readiness check resume where it stopped. */
+        int readyCount = 0;
+        /** Holds a reference to each decoded member's mesh. */
+        final LittleTilesDataCache.CachedBlock[] decoded;
+        /** Indices of decoded members with tick-rendered structures, drawn each frame after the merged mesh. */
+        final IntArrayList dynamic = new IntArrayList();
+        /** Per LOD level, built on first use; holds a reference to each culled mesh. */
+        @SuppressWarnings("unchecked")
+        final Map<BlockPos, BakedLittleTilesMesh>[] culled = new Map[LittleTilesLod.LEVELS];
+        final MergedLittleTilesMesh[] merged = new MergedLittleTilesMesh[LittleTilesLod.LEVELS];
+        /** Levels whose build has been submitted. */
+        final boolean[] queued = new boolean[LittleTilesLod.LEVELS];
+        /** Whether the anchor drew a merged mesh this frame, covering the other members. */
+        boolean covering = false;
+
+        Batch(Contraption contraption) {
+            this.contraption = contraption;
+            for (MutablePair<StructureBlockInfo, MovementContext> actor : contraption.getActors()) {
+                MovementContext context = actor.getRight();
+                if (context != null && context.blockEntityData != null && !context.blockEntityData.isEmpty()
+                        && LittleTilesBlockClassifier.isLittleTilesBlock(actor.getLeft().state())) {
+                    members.add(context);
+                    memberSet.add(context);
+                }
+            }
+            light = new int[members.size()];
+            decoded = new LittleTilesDataCache.CachedBlock[members.size()];
+        }
+
+        boolean isAnchor(MovementContext context) {
+            return !members.isEmpty() && members.get(0) == context;
+        }
+
+        boolean isReady() {
+            while (readyCount < members.size()) {
+                LittleTilesDataCache.CachedBlock cached = LittleTilesDataCache.get(members.get(readyCount));
+                if (cached == null) {
+                    return false;
+                }
+                if (cached.hasDynamicContent()) {
+                    dynamic.add(readyCount);
+                }
+                cached.getMesh().retain();
+                decoded[readyCount++] = cached;
+            }
+            return true;
+        }
+
+        /**
+         * Whether the given level has been culled and merged. If not, queues its build once every
+         * member has been decoded.
+         */
+        boolean isBuilt(int level) {
+            if (merged[level] != null) {
+                return true;
+            }
+            if (!queued[level] && isReady()) {
+                queued[level] = true;
+                submit(level);
+            }
+            return false;
+        }
+
+        /**
+         * Starts building the given level on the build pool; every member has been decoded. What the
+         * workers need is copied here, since the batch itself is only touched under the class lock,
+         * and the members' meshes are retained for the build in case the batch is dropped meanwhile.
+         */
+        private void submit(int level) {
+            int id = contraption.entity.getId();
+            List<BlockPos> offsets = new ArrayList<>(members.size());
+            for (MovementContext member : members) {
+                offsets.add(member.localPos);
+            }
+            List<LittleTilesDataCache.CachedBlock> blocks = List.of(decoded.clone());
+            Map<BlockPos, StructureBlockInfo> contraptionBlocks = contraption.getBlocks();
+            for (LittleTilesDataCache.CachedBlock block : blocks) {
+                block.getMesh().retain();
+            }
+
+            CompletableFuture.supplyAsync(() -> build(level, offsets, blocks, contraptionBlocks), LittleTilesBuildPool.get())
+                .whenComplete((result, error) -> {
+                    for (LittleTilesDataCache.CachedBlock block : blocks) {
+                        block.getMesh().release();
+                    }
+                    if (error != null) {
+                        if (BUILD_ERROR_LOG.tryAcquire()) {
+                            LOGGER.error("Failed to build LittleTiles batch for contraption {} at LOD {} ({} similar errors suppressed)",
+                                id, level, BUILD_ERROR_LOG.takeSuppressed(), error);
+                        }
+                        // Let a later frame queue the level again
+                        RenderStageDispatcher.defer("LittleTiles batch retry", () -> {
+                            synchronized (LittleTilesContraptionBatch.class) {
+                                queued[level] = false;
+                            }
+                        });
+                        return;
+                    }
+                    RenderStageDispatcher.defer("LittleTiles batch install", () -> {
+                        synchronized (LittleTilesContraptionBatch.class) {
+                            // Skip batches invalidated while the build was running
+                            if (BATCHES.get(id) == this && merged[level] == null) {
+                                culled[level] = result.culled();
+                                merged[level] = result.merged();
+                                merges++;
+                            } else {
+                                result.merged().free();
+                                LittleTilesContraptionBatch.release(result.culled());
+                            }
+                        }
+                    });
+                });
+        }
+
+        /**
+         * Frees the merged meshes' off-heap data and gives back the batch's mesh references. Called
+         * whenever a batch leaves {@link #BATCHES}.
+         */
+        void release() {
+            for (int level = 0; level < merged.length; level++) {
+                if (merged[level] != null) {
+                    merged[level].free();
+                    merged[level] = null;
+                }
+                if (culled[level] != null) {
+                    LittleTilesContraptionBatch.release(culled[level]);
+                    culled[level] = null;
+                }
+            }
+            for (int i = 0; i < readyCount; i++) {
+                decoded[i].getMesh().release();
+                decoded[i] = null;
+            }
+            readyCount = 0;
+        }
+
+        /**
+         * The wanted level if built, else any built level, else -1.
+         */
+        int builtLevel(int wanted) {
+            if (isBuilt(wanted)) {
+                return wanted;
+            }
+            for (int level = 0; level < merged.length; level++) {
+                if (merged[level] != null) {
+                    return level;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private record Built(Map<BlockPos, BakedLittleTilesMesh> culled, MergedLittleTilesMesh merged) {
+    }
+
+    /**
+     * Culls and merges the blocks' meshes at the given level. Runs on the build pool; every block's
+     * simplification and culling is a task of its own. The culled meshes hold a reference for the
+     * batch that installs them.
+     */
+    private static Built build(int level, List<BlockPos> offsets, List<LittleTilesDataCache.CachedBlock> blocks,
+                               Map<BlockPos, StructureBlockInfo> contraptionBlocks) {
+        List<BakedLittleTilesMesh> simplified = LittleTilesBuildPool.map(blocks, block -> LittleTilesLod.getMesh(block, level));
+        try {
+            Map<BlockPos, BakedLittleTilesMesh> baked = new HashMap<>();
+            for (int i = 0; i < offsets.size(); i++) {
+                baked.put(offsets.get(i), simplified.get(i));
+            }
+            Map<BlockPos, BakedLittleTilesMesh> culled = ContraptionFaceCuller.cull(baked, contraptionBlocks);
+
+            List<BakedLittleTilesMesh> meshes = new ArrayList<>(offsets.size());
+            for (BlockPos offset : offsets) {
+                meshes.add(culled.get(offset));
+            }
+            try {
+                return new Built(culled, MergedLittleTilesMesh.merge(meshes, offsets));
+            } catch (RuntimeException | Error e) {
+                release(culled);
+                throw e;
+            }
+        } finally {
+            for (BakedLittleTilesMesh mesh : simplified) {
+                mesh.release();
+            }
+        }
+    }
+
+    /**
+     * Draws the contraption's merged mesh if this is the anchor block. Returns true when the block
+     * is covered by the merged mesh, false when it still has to be drawn on its own.
+     */
+    public static synchronized boolean render(MovementContext context, BlockAndTintGetter renderWorld,
+                                 ContraptionMatrices matrices, MultiBufferSource buffer) {
+        if (context.contraption == null || context.contraption.entity == null) {
+            return false;
+        }
+
+        Batch batch = getBatch(context);
+        if (!batch.isAnchor(context)) {
+            // The anchor renders first, so this frame's decision is already made
+            return batch.covering && batch.memberSet.contains(context);
+        }
+        int level = batch.builtLevel(LittleTilesLod.select(context.contraption.entity));
+        batch.covering = level >= 0;
+        if (!batch.covering) {
+            return false;
+        }
+
+        for (int i = 0; i < batch.light.length; i++) {
+            batch.light[i] = ContraptionLightCache.getLight(batch.members.get(i), renderWorld, matrices);
+        }
+
+        // Create has translated the model to the anchor's local position; undo that so the merged
+        // mesh, which is already in contraption space, lines up.
+        BlockPos anchor = context.localPos;
+        PoseStack poseStack = matrices.getViewProjection();
+        poseStack.pushPose();
+        poseStack.last().pose().mul(matrices.getModel().last().pose());
+        poseStack.last().normal().mul(matrices.getModel().last().normal());
+        poseStack.translate(-anchor.getX(), -anchor.getY(), -anchor.getZ());
+        batch.merged[level].render(poseStack.last(), buffer, batch.light, OverlayTexture.NO_OVERLAY);
+        for (int i = 0; i < batch.dynamic.size(); i++) {
+            int index = batch.dynamic.getInt(i);
+            LittleTilesAPIFacade.ParsedLittleTilesData parsed = batch.decoded[index].getParsed();
+            BlockPos member = batch.members.get(index).localPos;
+            poseStack.pushPose();
+            poseStack.translate(member.getX(), member.getY(), member.getZ());
+            LittleTilesNBTHelper.renderStructures(parsed.getRenderableStructures(), poseStack, buffer, member, 1.0f);
+            poseStack.popPose();
+        }
+        poseStack.popPose();
+        return true;
+    }
+
+    /**
+     * The block's mesh at the given LOD level with faces hidden by its neighbours removed, or null
+     * until every LittleTiles block of the contraption has been decoded and the level built. The
+     * caller gets a reference of its own and must release it.
+     */
+    public static synchronized BakedLittleTilesMesh getCulledMesh(MovementContext context, int level) {
+        if (context.contraption == null || context.contraption.entity == null) {
+            return null;
+        }
+        Batch batch = getBatch(context);
+        return batch.isBuilt(level) ? batch.culled[level].getOrDefault(context.localPos, BakedLittleTilesMesh.EMPTY).retain() : null;
+    }
+
+    private static Batch getBatch(MovementContext context) {
+        return BATCHES.computeIfAbsent(context.contraption.entity.getId(), id -> new Batch(context.contraption));
+    }
+
+    /**
+     * Drops the contraption's batch so it is rebuilt with its current blocks.
+     */
+    public static synchronized void invalidate(MovementContext context) {
+        if (context.contraption != null && context.contraption.entity != null) {
+            release(BATCHES.remove(context.contraption.entity.getId()));
+        }
+    }
+
+    public static synchronized void clear() {
+        for (Batch batch : BATCHES.values()) {
+            batch.release();
+        }
+        BATCHES.clear();
+    }
+
+    private static void release(Batch batch) {
+        if (batch != null) {
+            batch.release();
+        }
+    }
+
+    private static void release(Map<BlockPos, BakedLittleTilesMesh> meshes) {
+        for (BakedLittleTilesMesh mesh : meshes.values()) {
+            mesh.release();
+        }
+    }
+
+    public static synchronized String getStats() {
+        int merged = 0;
+        long vertices = 0;
+        long bytes = 0;
+        for (Batch batch : BATCHES.values()) {
+            for (MergedLittleTilesMesh mesh : batch.merged) {
+                if (mesh != null) {
+                    merged++;
+                    vertices += mesh.getVertexCount();
+                    bytes += mesh.getBytes();
+                }
+            }
+        }
+        // Live bytes also count meshes built but not yet installed or discarded
+        return String.format("LittleTiles contraption batches: %d contraptions, %d merged meshes (%d vertices, %d KiB), "
+                + "%d KiB off-heap live, %d merges",
+            BATCHES.size(), merged, vertices, bytes / 1024, MergedLittleTilesMesh.getLiveBytes() / 1024, merges) + "\n" + ContraptionFaceCuller.getStats() + "\n" + LittleTilesLod.getStats();
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide()) {
+            synchronized (LittleTilesContraptionBatch.class) {
+                release(BATCHES.remove(event.getEntity().getId()));
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) {
+            clear();
+            LittleTilesLod.clear();
+        }
+    }
+}
@@ -1,36 +1,39 @@
 package com.createlittlecontraptions.compat.littletiles;
 
+import com.createlittlecontraptions.compat.create.ContraptionFrustumCuller;
+import com.createlittlecontraptions.compat.create.ContraptionLightCache;
+import com.createlittlecontraptions.utils.LogRateLimiter;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.simibubi.create.content.contraptions.behaviour.MovementContext;
 import com.simibubi.create.content.contraptions.render.ContraptionMatrices;
 import com.simibubi.create.foundation.virtualWorld.VirtualRenderWorld;
-import net.minecraft.client.renderer.LightTexture;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.texture.OverlayTexture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.concurrent.TimeUnit;
+
 /**
- * Renderer for LittleTiles blocks when moved by Create contraptions.
- * This uses the Direct Structure Rendering approach to bypass VirtualRenderWorld limitations.
+ * Renderer for LittleTiles blocks when moved by Create contraptions, used when no Flywheel backend
+ * is active. Blocks are decoded and baked off-thread by {@link LittleTilesDataCache}; each frame
+ * only re-issues the cached mesh, falling back to LittleTiles' own structure rendering for blocks
+ * that have no baked geometry.
  */
 public class LittleTilesContraptionRenderer {
 
     private static final Logger LOGGER = LogManager.getLogger("CreateLittleContraptions/LTRenderer");
-    private static boolean initialized = false;      // ULTRA AGGRESSIVE throttling for logging - only log once every 5 minutes
-    private static long lastLogTime = 0;
-    private static final long LOG_INTERVAL_MS = 300000; // 5 minutes
+    private static boolean initialized = false;
+    // Per-frame progress messages, at most one every 5 minutes
+    private static final LogRateLimiter RENDER_LOG = LogRateLimiter.every("LTRenderer/render", 5, TimeUnit.MINUTES);
+    private static final LogRateLimiter PARSE_FAILURE_LOG = LogRateLimiter.every("LTRenderer/parseFailure", 30, TimeUnit.SECONDS);
+    private static final LogRateLimiter RENDER_ERROR_LOG = LogRateLimiter.every("LTRenderer/renderError", 10, TimeUnit.SECONDS);
     
     /**
      * Check if enough time has passed to allow logging (throttling)
      */
     private static boolean shouldLog() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastLogTime >= LOG_INTERVAL_MS) {
-            lastLogTime = currentTime;
-            return true;
-        }
-        return false;
+        return RENDER_LOG.tryAcquire();
     }
 
     /**
@@ -67,7 +70,8 @@ public class LittleTilesContraptionRenderer {
     }
 
     /**
-     * Renders a LittleTiles block within a Create contraption using Direct Structure Rendering.
+     * Renders a LittleTiles block within a Create contraption: as part of the contraption's merged
+     * batch once it is ready, otherwise from the block's cached mesh.
      * This method is called by LittleTilesMovementBehaviour.renderInContraption.
      * 
      * @param context MovementContext containing the block data and NBT
@@ -75,76 +79,99 @@ public class LittleTilesContraptionRenderer {
      * @param matrices ContraptionMatrices for positioning and lighting
      * @param buffer MultiBufferSource for rendering
      * @return true if rendering was attempted, false if no data to render
-     */    public static boolean renderMovementBehaviourTile(MovementContext context, VirtualRenderWorld renderWorld,
+     */
+    public static boolean renderMovementBehaviourTile(MovementContext context, VirtualRenderWorld renderWorld,
                                                     ContraptionMatrices matrices, MultiBufferSource buffer) {
         boolean hasNBT = context.blockEntityData != null && !context.blockEntityData.isEmpty();
-        
-        // Only log once every 10 seconds to avoid spam
-        if (shouldLog()) {
-            LOGGER.info("🎨 [CLC Renderer] Starting renderMovementBehaviourTile for: {} with NBT (exists? {})", 
-                       context.localPos, hasNBT);
-        }
 
         if (!hasNBT) {
             if (shouldLog()) {
-                LOGGER.warn("⚠️ [CLC Renderer] No NBT data found for: {}", context.localPos);
+                LOGGER.warn("[CLC Renderer] No NBT data found for: {}", context.localPos);
             }
             return false; // No data to render
-        }try {
-            LOGGER.debug("[CLC Renderer] Entrou No Try");
-
-            // Use the Direct Structure Rendering facade to parse NBT
-            // For now, we'll try without the HolderLookup.Provider to test the basic approach
-            LittleTilesAPIFacade.ParsedLittleTilesData parsedStructures = LittleTilesAPIFacade.parseStructuresFromNBT(
-                context.blockEntityData, 
-                context.state, 
-                context.localPos, 
-                null // TODO: Find proper way to get HolderLookup.Provider in MovementBehaviour context
-            );
-
-            if (parsedStructures == null) {
-                LOGGER.warn("⚠️ [CLC Renderer] Failed to parse structures from NBT for {}. Aborting render.", context.localPos);
+        }
+
+        try {
+            // Off-screen contraptions and blocks are skipped before any culling, merging or drawing
+            // (see ContraptionFrustumCuller)
+            if (!ContraptionFrustumCuller.isContraptionVisible(context, matrices)) {
+                return false;
+            }
+
+            // Once every tile block of the contraption is decoded they are drawn together as one
+            // merged mesh by the first of them (see LittleTilesContraptionBatch)
+            if (LittleTilesContraptionBatch.render(context, renderWorld, matrices, buffer)) {
+                return true;
+            }
+            if (!ContraptionFrustumCuller.isBlockVisible(context, matrices)) {
                 return false;
             }
-            LOGGER.debug("[CLC Renderer] Successfully parsed NBT structures for {}", context.localPos);
 
-            // Prepare the PoseStack for rendering
-            PoseStack poseStack = matrices.getViewProjection(); // Get the contraption's transformation matrix
-            poseStack.pushPose();            
-            // Apply local translation for this specific block within the contraption
-            poseStack.translate(context.localPos.getX(), context.localPos.getY(), context.localPos.getZ());
+            // Parsed and baked off-thread once the block starts moving and reused every frame
+            // (see LittleTilesDataCache). Nothing is drawn until that decode has finished.
+            LittleTilesDataCache.CachedBlock cached = LittleTilesDataCache.get(context);
+            if (cached == null) {
+                return false;
+            }
+            // The parse is only retained when something still draws from it (see CachedBlock)
+            LittleTilesAPIFacade.ParsedLittleTilesData parsedStructures = cached.getParsed();
+
+            if (parsedStructures == null && cached.getMesh().isEmpty()) {
+                if (PARSE_FAILURE_LOG.tryAcquire()) {
+                    LOGGER.warn("[CLC Renderer] Failed to parse structures from NBT for {}. Aborting render. ({} similar messages suppressed)",
+                        context.localPos, PARSE_FAILURE_LOG.takeSuppressed());
+                }
+                return false;
+            }
+
+            // Prepare the PoseStack for rendering: view projection followed by the contraption model
+            // transform. Create has already translated the model by this block's local position.
+            PoseStack poseStack = matrices.getViewProjection();
+            poseStack.pushPose();
+            poseStack.last().pose().mul(matrices.getModel().last().pose());
+            poseStack.last().normal().mul(matrices.getModel().last().normal());
             
-            // Calculate lighting - this is complex in MovementBehaviour context
-            // For now, use FULL_BRIGHT as a placeholder until we find the proper lighting method
-            // TODO: Investigate ContraptionMatrices for proper lighting information
-            int packedLight = LightTexture.FULL_BRIGHT; // Placeholder - NEEDS PROPER IMPLEMENTATION
+            // World light at the block's current position plus light from the contraption itself,
+            // sampled once per position and cached (see ContraptionLightCache)
+            int packedLight = ContraptionLightCache.getLight(context, renderWorld, matrices);
             int packedOverlay = OverlayTexture.NO_OVERLAY;
             float partialTicks = 1.0f; // Placeholder - will need proper partial tick value
 
-            LOGGER.debug("[CLC Renderer] Attempting direct render for {} with light {} at {}", 
-                        context.localPos, packedLight, poseStack.last().pose());
-
-            // Perform the direct rendering using LittleTiles' own logic
-            LittleTilesAPIFacade.renderDirectly(
-                parsedStructures,
-                poseStack,
-                buffer,
-                packedLight,
-                packedOverlay,
-                partialTicks
-            );
-            
+            BakedLittleTilesMesh mesh = cached.getMesh();
+            if (!mesh.isEmpty()) {
+                // Static geometry: re-issue the baked vertices with this frame's pose and light
+                mesh.render(poseStack.last(), buffer, packedLight, packedOverlay);
+                // Only tick-rendered structures are drawn per frame
+                if (cached.hasDynamicContent()) {
+                    LittleTilesNBTHelper.renderStructures(parsedStructures.getRenderableStructures(), poseStack, buffer,
+                        context.localPos, partialTicks);
+                }
+            } else {
+                // Nothing was baked for this block, so let LittleTiles draw the parsed structures itself
+                LittleTilesAPIFacade.renderDirectly(
+                    parsedStructures,
+                    context.localPos,
+                    poseStack,
+                    buffer,
+                    packedLight,
+                    packedOverlay,
+                    partialTicks
+                );
+            }
+
             poseStack.popPose();
-            
-            // Only log success once every 10 seconds to avoid spam
+
             if (shouldLog()) {
-                LOGGER.info("✅ [CLC Renderer] Direct rendering attempted for: {}", context.localPos);
+                LOGGER.info("[CLC Renderer] Rendered {} ({} calls since last message)",
+                    context.localPos, RENDER_LOG.takeSuppressed() + 1);
             }
             return true; // Indicate rendering was attempted
 
         } catch (Exception e) {
-            LOGGER.error("❌ [CLC Renderer] Unexpected error in renderMovementBehaviourTile for {}: {}", 
-                        context.localPos, e.getMessage(), e);
+            if (RENDER_ERROR_LOG.tryAcquire()) {
+                LOGGER.error("[CLC Renderer] Unexpected error in renderMovementBehaviourTile for {} ({} similar errors suppressed): {}",
+                    context.localPos, RENDER_ERROR_LOG.takeSuppressed(), e.getMessage(), e);
+            }
             return false;
         }
     }
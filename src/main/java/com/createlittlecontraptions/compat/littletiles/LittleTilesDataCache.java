@@ -0,0 +1,322 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import com.simibubi.create.content.contraptions.AbstractContraptionEntity;
+import com.simibubi.create.content.contraptions.behaviour.MovementContext;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Client-side cache of parsed LittleTiles data for blocks carried by Create contraptions.
+ * Entries are filled once when a block starts moving and dropped when its contraption entity leaves
+ * the client level (Create only calls stopMoving on the server), so the render path no longer rebuilds a BlockParentCollection from NBT every frame. Each entry also holds
+ * the block's baked mesh, so static tiles are not re-tessellated per frame either.
+ *
+ * Parsing and baking run as one task per block on LittleTilesBuildPool, submitted as soon as the
+ * block starts moving, so assembling a large contraption neither stalls the render thread nor
+ * decodes its blocks one at a time. Until a block's
+ * result is ready {@link #get} returns null and the block is simply not drawn.
+ *
+ * Blocks the client just saw in the world reuse the tiles and render boxes LittleTiles already had for
+ * them instead of parsing NBT (see LittleTilesAssemblyCapture).
+ *
+ * The cache is bounded and evicts the least recently rendered block first. Slots only point at the
+ * decode; blocks with identical tile content share one (see LittleTilesContentStore).
+ */
+@EventBusSubscriber(modid = "createlittlecontraptions", bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public class LittleTilesDataCache {
+
+    private static final Logger LOGGER = LogManager.getLogger("CreateLittleContraptions/LTDataCache");
+    private static final int MAX_ENTRIES = 1024;
+
+    private static final Map<Key, Slot> CACHE = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Slot> eldest) {
+            if (size() > MAX_ENTRIES) {
+                evictions++;
+                LittleTilesContentStore.release(eldest.getValue().fingerprint);
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private static long hits = 0;
+    private static long misses = 0;
+    private static long evictions = 0;
+    private static long pending = 0;
+
+    /**
+     * Identifies one LittleTiles block inside one contraption. The NBT identity hash makes sure a
+     * contraption that re-captures its block data does not keep serving the old parse.
+     */
+    public record Key(int contraptionId, BlockPos localPos, int nbtIdentity) {
+        public static Key of(MovementContext context) {
+            int contraptionId = context.contraption != null && context.contraption.entity != null
+                ? context.contraption.entity.getId() : -1;
+            return new Key(contraptionId, context.localPos, System.identityHashCode(context.blockEntityData));
+        }
+    }
+
+    /**
+     * Baked mesh and render snapshot of one tile content, shared by every moving block carrying it.
+     * The parsed collection is only kept while something still draws from it: tick-rendered
+     * structures, or the direct render when nothing could be baked. It is null when the NBT could not
+     * be read. Its container position and state are those of the block that was decoded first; see
+     * LittleTilesAPIFacade.ParsedLittleTilesData.
+     */
+    public static final class CachedBlock {
+        private final LittleTilesContentStore.Fingerprint fingerprint;
+        private final LittleTilesAPIFacade.ParsedLittleTilesData parsed;
+        private final LittleTilesRenderSnapshot snapshot;
+        private final BakedLittleTilesMesh mesh;
+        private final boolean dynamic;
+
+        CachedBlock(LittleTilesContentStore.Fingerprint fingerprint, LittleTilesAPIFacade.ParsedLittleTilesData parsed,
+                            BakedLittleTilesMesh mesh) {
+            this.fingerprint = fingerprint;
+            this.mesh = mesh;
+            // Split off the dynamic content and pack the boxes here, on the decoding thread, rather
+            // than on the first frame
+            this.snapshot = LittleTilesRenderSnapshot.of(parsed);
+            this.dynamic = parsed != null && !parsed.getRenderableStructures().isEmpty();
+            this.parsed = dynamic || mesh.isEmpty() ? parsed : null;
+        }
+
+        private CachedBlock(LittleTilesContentStore.Fingerprint fingerprint, BakedLittleTilesMesh mesh,
+                            LittleTilesRenderSnapshot snapshot) {
+            this.fingerprint = fingerprint;
+            this.parsed = null;
+            this.snapshot = snapshot;
+            this.mesh = mesh;
+            this.dynamic = false;
+        }
+
+        /**
+         * A block read back from LittleTilesDiskCache, which only stores blocks without dynamic content.
+         */
+        static CachedBlock restored(LittleTilesContentStore.Fingerprint fingerprint, LittleTilesRenderSnapshot snapshot,
+                                    BakedLittleTilesMesh mesh) {
+            return new CachedBlock(fingerprint, mesh, snapshot);
+        }
+
+        public LittleTilesContentStore.Fingerprint getFingerprint() { return fingerprint; }
+        public LittleTilesAPIFacade.ParsedLittleTilesData getParsed() { return parsed; }
+        public LittleTilesRenderSnapshot getSnapshot() { return snapshot; }
+        public BakedLittleTilesMesh getMesh() { return mesh; }
+
+        /**
+         * Whether part of the block has to be drawn every frame, besides its baked mesh.
+         */
+        public boolean hasDynamicContent() {
+            return dynamic;
+        }
+
+        /**
+         * Gives back the block's reference to its mesh. Called once, by LittleTilesContentStore when
+         * no slot uses the block any more.
+         */
+        void release() {
+            mesh.release();
+        }
+    }
+
+    /**
+     * One cache slot: the NBT it was built from, its content fingerprint and the (possibly still
+     * running, possibly shared) decode.
+     */
+    private record Slot(CompoundTag source, LittleTilesContentStore.Fingerprint fingerprint, CompletableFuture<CachedBlock> future) {
+    }
+
+    /**
+     * Queues the block's NBT for parsing and baking. Called from startMoving.
+     */
+    public static synchronized void load(MovementContext context) {
+        release(CACHE.put(Key.of(context), submit(context)));
+    }
+
+    /**
+     * Returns the cached parse and mesh for this block, or null while it is still being decoded.
+     * A miss queues a decode; a failed parse is cached as well so broken data is not retried every frame.
+     */
+    public static synchronized CachedBlock get(MovementContext context) {
+        Key key = Key.of(context);
+        Slot slot = CACHE.get(key);
+        if (slot == null || slot.source != context.blockEntityData) {
+            misses++;
+            slot = submit(context);
+            release(CACHE.put(key, slot));
+        }
+
+        CachedBlock entry = slot.future.getNow(null);
+        if (entry == null) {
+            pending++;
+            return null;
+        }
+        hits++;
+        return entry;
+    }
+
+    /**
+     * Drops the cached parse for this block. Called from stopMoving, which Create only calls on the
+     * server; on the client slots go with their entity (see {@link #onEntityLeave}).
+     */
+    public static synchronized void invalidate(MovementContext context) {
+        release(CACHE.remove(Key.of(context)));
+    }
+
+    /**
+     * Drops every slot of one contraption.
+     */
+    public static synchronized void invalidate(int contraptionId) {
+        Iterator<Map.Entry<Key, Slot>> iterator = CACHE.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Slot> entry = iterator.next();
+            if (entry.getKey().contraptionId() == contraptionId) {
+                release(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    public static synchronized void clear() {
+        for (Slot slot : CACHE.values()) {
+            release(slot);
+        }
+        CACHE.clear();
+    }
+
+    private static void release(Slot slot) {
+        if (slot != null) {
+            LittleTilesContentStore.release(slot.fingerprint);
+        }
+    }
+
+    public static synchronized int size() {
+        return CACHE.size();
+    }
+
+    public static synchronized long getHits() {
+        return hits;
+    }
+
+    public static synchronized long getMisses() {
+        return misses;
+    }
+
+    public static int getQueuedDecodes() {
+        return LittleTilesBuildPool.getQueued();
+    }
+
+    /**
+     * Heap held by the render snapshots of the decoded entries, counting shared content once.
+     */
+    private static long getSnapshotBytes() {
+        Set<LittleTilesRenderSnapshot> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = 0;
+        for (Slot slot : CACHE.values()) {
+            CachedBlock entry = slot.future.getNow(null);
+            if (entry != null && seen.add(entry.snapshot)) {
+                bytes += entry.snapshot.getByteSize();
+            }
+        }
+        return bytes;
+    }
+
+    public static synchronized String getStats() {
+        long lookups = hits + misses;
+        double hitRate = lookups == 0 ? 0.0 : (hits * 100.0) / lookups;
+        return String.format("LittleTiles data cache: %d/%d entries, %d hits, %d misses (%.1f%% hit rate), %d evictions, "
+                + "%d frames waiting on decode, %d build tasks queued",
+            CACHE.size(), MAX_ENTRIES, hits, misses, hitRate, evictions, pending, getQueuedDecodes())
+            + String.format(", %d KiB of render snapshots, %d KiB of baked meshes off-heap",
+                getSnapshotBytes() / 1024, BakedLittleTilesMesh.getLiveBytes() / 1024);
+    }
+
+    /**
+     * Starts decoding on the worker pool unless a block with the same content already has. The context
+     * is read here, on the calling thread, since Create may reuse it once the block stops moving.
+     */
+    private static Slot submit(MovementContext context) {
+        CompoundTag nbt = context.blockEntityData;
+        BlockState state = context.state;
+        BlockPos localPos = context.localPos;
+        HolderLookup.Provider provider = context.world != null ? context.world.registryAccess() : null;
+        LittleTilesContentStore.Fingerprint fingerprint = LittleTilesContentStore.Fingerprint.of(nbt);
+
+        return new Slot(nbt, fingerprint, LittleTilesContentStore.acquire(fingerprint, () -> {
+            CompletableFuture<LittleTilesAssemblyCapture.Snapshot> capture = LittleTilesAssemblyCapture.claim(context);
+            if (capture != null) {
+                // The client held this block a moment ago; use its data unless the content differs
+                return capture.thenApplyAsync(snapshot -> {
+                    if (!LittleTilesContentStore.contains(fingerprint)) {
+                        return new CachedBlock(fingerprint, null, BakedLittleTilesMesh.EMPTY);
+                    }
+                    CachedBlock reused = snapshot != null
+                        ? LittleTilesAssemblyCapture.toCachedBlock(snapshot, fingerprint, state, localPos, provider) : null;
+                    return reused != null ? LittleTilesDiskCache.store(reused) : decode(fingerprint, nbt, state, localPos, provider);
+                }, LittleTilesBuildPool.get());
+            }
+            return CompletableFuture.supplyAsync(() -> decode(fingerprint, nbt, state, localPos, provider), LittleTilesBuildPool.get());
+        }));
+    }
+
+    /**
+     * The block as stored by an earlier session (see LittleTilesDiskCache), or parsed and baked and
+     * then stored for the next one. Nothing is done once no block wants the content any more, e.g. when
+     * the contraption left the level while the decode was still queued.
+     */
+    private static CachedBlock decode(LittleTilesContentStore.Fingerprint fingerprint, CompoundTag nbt, BlockState state,
+                                      BlockPos localPos, HolderLookup.Provider provider) {
+        if (!LittleTilesContentStore.contains(fingerprint)) {
+            return new CachedBlock(fingerprint, null, BakedLittleTilesMesh.EMPTY);
+        }
+        CachedBlock stored = LittleTilesDiskCache.load(fingerprint);
+        return stored != null ? stored : LittleTilesDiskCache.store(parse(fingerprint, nbt, state, localPos, provider));
+    }
+
+    private static CachedBlock parse(LittleTilesContentStore.Fingerprint fingerprint, CompoundTag nbt, BlockState state,
+                                     BlockPos localPos, HolderLookup.Provider provider) {
+        try {
+            LittleTilesAPIFacade.ParsedLittleTilesData parsed = LittleTilesAPIFacade.parseStructuresFromNBT(nbt, state, localPos, provider);
+            if (parsed == null) {
+                LOGGER.warn("Could not parse LittleTiles data for {} - caching empty result", localPos);
+            }
+            return new CachedBlock(fingerprint, parsed, LittleTilesMeshBaker.bake(parsed));
+        } catch (Exception e) {
+            LOGGER.error("Failed to decode LittleTiles data for {}: {}", localPos, e.getMessage(), e);
+            return new CachedBlock(fingerprint, null, BakedLittleTilesMesh.EMPTY);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide() && event.getEntity() instanceof AbstractContraptionEntity) {
+            invalidate(event.getEntity().getId());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) {
+            clear();
+            LittleTilesContentStore.clear();
+        }
+    }
+}
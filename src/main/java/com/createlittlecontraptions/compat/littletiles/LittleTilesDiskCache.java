@@ -0,0 +1,400 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import com.createlittlecontraptions.ClientConfig;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.RenderType;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.ModList;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.fml.loading.FMLPaths;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforgespi.language.IModInfo;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Baked LittleTiles blocks kept on disk across sessions, so rejoining a world with parked
+ * contraptions maps their meshes back in instead of parsing and tessellating every block again.
+ *
+ * One file per tile content under {@code createlittlecontraptions/meshcache/<environment>/}, named
+ * after the content fingerprint (see LittleTilesContentStore.Fingerprint). The environment is a hash
+ * of the file format version, every loaded mod with its version (LittleTiles and Create among them,
+ * which also pins block state ids) and the selected resource packs (which pin atlas coordinates). It
+ * is computed on the client thread when a client level loads; directories of other environments are
+ * deleted once the cache is first used.
+ *
+ * File layout (little-endian): magic, format version, environment hash, the fingerprint, the render
+ * snapshot (see LittleTilesRenderSnapshot) and the mesh layers (see BakedLittleTilesMesh). Files are
+ * memory-mapped and copied straight into the mesh arrays; a file that does not match is deleted.
+ *
+ * Only blocks that draw entirely from their baked mesh are stored. Total size is capped by
+ * {@link ClientConfig#MESH_CACHE_MEGABYTES}; the least recently used files are deleted beyond it,
+ * with file modification times carrying the order across sessions.
+ *
+ * Used from build workers; all state is guarded by the class lock, which is not held while a file is
+ * read.
+ */
+@EventBusSubscriber(modid = "createlittlecontraptions", bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public final class LittleTilesDiskCache {
+
+    private static final Logger LOGGER = LogManager.getLogger("CreateLittleContraptions/LTDiskCache");
+
+    private static final int MAGIC = 0x4D434C43; // "CLCM"
+    private static final int FORMAT_VERSION = 1;
+    private static final String EXTENSION = ".mesh";
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 8 + 8 + 4;
+
+    /** Hash of the environment the meshes are valid for, as hex, or null before the first client level. */
+    private static String environment = null;
+    private static long environmentHash = 0;
+    private static Path directory = null;
+    /** File name to size, least recently used first; null until scanned. */
+    private static LinkedHashMap<String, Long> index = null;
+    private static long totalBytes = 0;
+
+    private static long hits = 0;
+    private static long misses = 0;
+    private static long writes = 0;
+    private static long evictions = 0;
+    private static long failures = 0;
+
+    private LittleTilesDiskCache() {
+    }
+
+    /**
+     * The stored block for this content, or null when there is none or the cache is disabled. Only
+     * the index lookup and bookkeeping take the lock; the file is read outside it, so workers decode
+     * in parallel.
+     */
+    public static LittleTilesDataCache.CachedBlock load(LittleTilesContentStore.Fingerprint fingerprint) {
+        String name = fileName(fingerprint);
+        LinkedHashMap<String, Long> scanned;
+        Path file;
+        long hash;
+        synchronized (LittleTilesDiskCache.class) {
+            if (!isEnabled()) {
+                return null;
+            }
+            if (!index.containsKey(name)) {
+                misses++;
+                return null;
+            }
+            scanned = index;
+            file = directory.resolve(name);
+            hash = environmentHash;
+        }
+
+        LittleTilesDataCache.CachedBlock cached;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            cached = read(mapped.order(ByteOrder.LITTLE_ENDIAN), fingerprint, hash);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Could not read mesh cache file {}: {}", name, e.getMessage());
+            synchronized (LittleTilesDiskCache.class) {
+                failures++;
+                // The environment may have changed meanwhile, taking the index with it
+                if (index == scanned) {
+                    remove(name);
+                }
+            }
+            return null;
+        }
+        if (cached != null) {
+            try {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (IOException e) {
+                // Only the order across sessions suffers
+                LOGGER.debug("Could not touch mesh cache file {}: {}", name, e.getMessage());
+            }
+        }
+
+        synchronized (LittleTilesDiskCache.class) {
+            if (cached == null) {
+                LOGGER.debug("Discarding stale mesh cache file {}", name);
+                misses++;
+                if (index == scanned) {
+                    remove(name);
+                }
+                return null;
+            }
+            hits++;
+            if (index == scanned) {
+                // Marks the file most recently used
+                index.get(name);
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * Writes the block to disk if it can be restored from its mesh alone. Returns {@code cached}.
+     */
+    public static LittleTilesDataCache.CachedBlock store(LittleTilesDataCache.CachedBlock cached) {
+        if (cached.getParsed() != null || cached.hasDynamicContent() || cached.getMesh().isEmpty()) {
+            return cached;
+        }
+        String name = fileName(cached.getFingerprint());
+        long hash;
+        synchronized (LittleTilesDiskCache.class) {
+            if (!isEnabled() || index.containsKey(name)) {
+                return cached;
+            }
+            hash = environmentHash;
+        }
+
+        // Serialized outside the lock; a file written for an environment left meanwhile fails its
+        // header check and is deleted on first read
+        ByteBuffer data = write(cached, hash);
+        synchronized (LittleTilesDiskCache.class) {
+            if (!isEnabled() || index.containsKey(name)) {
+                return cached;
+            }
+            Path file = directory.resolve(name);
+            Path temp = directory.resolve(name + ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+                    while (data.hasRemaining()) {
+                        channel.write(data);
+                    }
+                }
+                try {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+                index.put(name, (long) data.capacity());
+                totalBytes += data.capacity();
+                writes++;
+                evict();
+            } catch (IOException e) {
+                LOGGER.debug("Could not write mesh cache file {}: {}", name, e.getMessage());
+                failures++;
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Left for the next scan
+                }
+            }
+        }
+        return cached;
+    }
+
+    private static LittleTilesDataCache.CachedBlock read(ByteBuffer in, LittleTilesContentStore.Fingerprint fingerprint, long hash) {
+        if (in.remaining() < HEADER_BYTES || in.getInt() != MAGIC || in.getInt() != FORMAT_VERSION
+                || in.getLong() != hash
+                || in.getLong() != fingerprint.content().getHigh() || in.getLong() != fingerprint.content().getLow()
+                || in.getLong() != fingerprint.content().getEncodedSize() || in.getInt() != fingerprint.grid()) {
+            return null;
+        }
+
+        LittleTilesRenderSnapshot snapshot = LittleTilesRenderSnapshot.read(in);
+        int layerCount = in.getInt();
+        if (layerCount != RenderType.chunkBufferLayers().size()) {
+            return null;
+        }
+        int[][] layers = new int[layerCount][];
+        for (int layer = 0; layer < layerCount; layer++) {
+            int length = in.getInt();
+            if (length > 0) {
+                layers[layer] = new int[length];
+                in.asIntBuffer().get(layers[layer]);
+                in.position(in.position() + 4 * length);
+            }
+        }
+        return LittleTilesDataCache.CachedBlock.restored(fingerprint, snapshot, new BakedLittleTilesMesh(layers));
+    }
+
+    private static ByteBuffer write(LittleTilesDataCache.CachedBlock cached, long hash) {
+        LittleTilesContentStore.Fingerprint fingerprint = cached.getFingerprint();
+        BakedLittleTilesMesh mesh = cached.getMesh();
+        long size = HEADER_BYTES + 12 + cached.getSnapshot().getByteSize() + 4;
+        for (int layer = 0; layer < mesh.getLayerCount(); layer++) {
+            IntBuffer data = mesh.getLayer(layer);
+            size += 4 + (data != null ? 4L * data.limit() : 0);
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(Math.toIntExact(size)).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(hash)
+            .putLong(fingerprint.content().getHigh()).putLong(fingerprint.content().getLow())
+            .putLong(fingerprint.content().getEncodedSize()).putInt(fingerprint.grid());
+        cached.getSnapshot().write(out);
+        out.putInt(mesh.getLayerCount());
+        for (int layer = 0; layer < mesh.getLayerCount(); layer++) {
+            IntBuffer data = mesh.getLayer(layer);
+            int length = data != null ? data.limit() : 0;
+            out.putInt(length);
+            if (data != null) {
+                out.asIntBuffer().put(data);
+                out.position(out.position() + 4 * length);
+            }
+        }
+        return out.flip();
+    }
+
+    /**
+     * Whether the cache can be used, scanning its directory on first use in this environment.
+     */
+    private static boolean isEnabled() {
+        if (environment == null || ClientConfig.MESH_CACHE_MEGABYTES.get() <= 0) {
+            return false;
+        }
+        if (index == null) {
+            scan();
+        }
+        return index != null;
+    }
+
+    /**
+     * Builds the index from the environment's directory and deletes other environments' directories.
+     */
+    private static void scan() {
+        Path root = FMLPaths.GAMEDIR.get().resolve("createlittlecontraptions").resolve("meshcache");
+        Path dir = root.resolve(environment);
+        try {
+            Files.createDirectories(dir);
+            try (Stream<Path> others = Files.list(root)) {
+                for (Path other : others.filter(path -> Files.isDirectory(path) && !path.equals(dir)).toList()) {
+                    deleteDirectory(other);
+                }
+            }
+
+            List<Path> files;
+            try (Stream<Path> listed = Files.list(dir)) {
+                files = new ArrayList<>(listed.toList());
+            }
+            Map<Path, Long> modified = new LinkedHashMap<>();
+            LinkedHashMap<String, Long> scanned = new LinkedHashMap<>(Math.max(16, files.size() * 2), 0.75f, true);
+            long bytes = 0;
+            for (Path file : files) {
+                if (file.getFileName().toString().endsWith(EXTENSION)) {
+                    modified.put(file, Files.getLastModifiedTime(file).toMillis());
+                } else {
+                    // Temporary files of an interrupted write
+                    Files.deleteIfExists(file);
+                }
+            }
+            List<Path> ordered = new ArrayList<>(modified.keySet());
+            ordered.sort(Comparator.comparingLong(modified::get));
+            for (Path file : ordered) {
+                long size = Files.size(file);
+                scanned.put(file.getFileName().toString(), size);
+                bytes += size;
+            }
+
+            directory = dir;
+            index = scanned;
+            totalBytes = bytes;
+            evict();
+            LOGGER.info("LittleTiles mesh cache: {} meshes ({} KiB) in {}", index.size(), totalBytes / 1024, dir);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("LittleTiles mesh cache unavailable: {}", e.getMessage());
+            environment = null;
+        }
+    }
+
+    /**
+     * Deletes least recently used files until the cache is within its size cap.
+     */
+    private static void evict() {
+        long cap = ClientConfig.MESH_CACHE_MEGABYTES.get() * 1024L * 1024L;
+        Iterator<Map.Entry<String, Long>> iterator = index.entrySet().iterator();
+        while (totalBytes > cap && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            evictions++;
+            delete(directory.resolve(eldest.getKey()));
+        }
+    }
+
+    private static void remove(String name) {
+        Long size = index.remove(name);
+        if (size != null) {
+            totalBytes -= size;
+        }
+        delete(directory.resolve(name));
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Still mapped on some platforms; the next scan picks it up again
+            LOGGER.debug("Could not delete mesh cache file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static void deleteDirectory(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                delete(file);
+            }
+        }
+    }
+
+    private static String fileName(LittleTilesContentStore.Fingerprint fingerprint) {
+        return String.format("%016x%016x-%d%s", fingerprint.content().getHigh(), fingerprint.content().getLow(),
+            fingerprint.grid(), EXTENSION);
+    }
+
+    /**
+     * Hash of everything the stored meshes depend on besides their content.
+     */
+    private static long computeEnvironment() {
+        StringBuilder key = new StringBuilder("format=").append(FORMAT_VERSION);
+        ModList.get().getMods().stream()
+            .sorted(Comparator.comparing(IModInfo::getModId))
+            .forEach(mod -> key.append(';').append(mod.getModId()).append('=').append(mod.getVersion()));
+        key.append(";packs=").append(String.join(",", Minecraft.getInstance().getResourcePackRepository().getSelectedIds()));
+        return UUID.nameUUIDFromBytes(key.toString().getBytes(StandardCharsets.UTF_8)).getMostSignificantBits();
+    }
+
+    public static synchronized String getStats() {
+        if (index == null) {
+            return String.format("LittleTiles mesh cache: %s", environment == null ? "disabled" : "not scanned yet");
+        }
+        return String.format("LittleTiles mesh cache: %d meshes (%d/%d KiB), %d hits, %d misses, %d writes, %d evictions, %d failures",
+            index.size(), totalBytes / 1024, ClientConfig.MESH_CACHE_MEGABYTES.get() * 1024L, hits, misses, writes, evictions, failures);
+    }
+
+    @SubscribeEvent
+    public static void onLevelLoad(LevelEvent.Load event) {
+        if (event.getLevel().isClientSide()) {
+            String current = String.format("%016x", computeEnvironment());
+            synchronized (LittleTilesDiskCache.class) {
+                if (!current.equals(environment)) {
+                    // Rescanned by the first lookup, on a build worker
+                    environment = current;
+                    environmentHash = Long.parseUnsignedLong(current, 16);
+                    index = null;
+                    directory = null;
+                    totalBytes = 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import dev.engine_room.flywheel.api.material.Material;
+import dev.engine_room.flywheel.api.model.Model;
+import dev.engine_room.flywheel.api.vertex.MutableVertexList;
+import dev.engine_room.flywheel.lib.model.ModelUtil;
+import dev.engine_room.flywheel.lib.model.QuadMesh;
+import dev.engine_room.flywheel.lib.model.SimpleModel;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.core.Direction;
+import org.joml.Vector4f;
+import org.joml.Vector4fc;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.WeakReference;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Exposes a {@link BakedLittleTilesMesh} to Flywheel as an instanceable model, one mesh per chunk
+ * render layer. The vertex data is copied into Flywheel's buffers once, when the instancer uploads
+ * the model; after that the block is drawn by the instancing backend like any other contraption block.
+ *
+ * Models are shared per mesh (see {@link #get}). Blocks with the same tile content share one mesh
+ * (see LittleTilesContentStore), so they end up as instances of one model with their own transforms.
+ *
+ * Flywheel may upload a model again whenever it creates a new instancer for it and has no hook for
+ * when a model is dropped, so a model holds its own reference to the mesh (see
+ * BakedLittleTilesMesh#retain) and gives it back once the model itself has been garbage collected.
+ */
+public final class LittleTilesFlywheelModel {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /** Keyed by mesh identity. Models reference their mesh, so they are held weakly as well. */
+    private static final Map<BakedLittleTilesMesh, WeakReference<Model>> MODELS = new WeakHashMap<>();
+    private static long created = 0;
+    private static long reused = 0;
+
+    private LittleTilesFlywheelModel() {
+    }
+
+    /**
+     * The shared model of the mesh, created on first use. Returns null when the mesh has no layer
+     * Flywheel has a material for. The caller must hold a reference to the mesh.
+     */
+    public static synchronized Model get(BakedLittleTilesMesh mesh) {
+        WeakReference<Model> shared = MODELS.get(mesh);
+        Model model = shared != null ? shared.get() : null;
+        if (model != null) {
+            reused++;
+            return model;
+        }
+        created++;
+        model = create(mesh);
+        MODELS.put(mesh, new WeakReference<>(model));
+        return model;
+    }
+
+    public static synchronized String getStats() {
+        return String.format("LittleTiles Flywheel models: %d live, %d created, %d reused", MODELS.size(), created, reused);
+    }
+
+    /**
+     * Returns null when the mesh has no layer Flywheel has a material for. The model takes a reference
+     * to the mesh of its own.
+     */
+    public static Model create(BakedLittleTilesMesh mesh) {
+        if (mesh.isEmpty()) {
+            return null;
+        }
+
+        List<RenderType> renderTypes = RenderType.chunkBufferLayers();
+        List<Model.ConfiguredMesh> meshes = new ArrayList<>();
+        for (int layer = 0; layer < renderTypes.size(); layer++) {
+            IntBuffer data = mesh.getLayer(layer);
+            if (data == null) {
+                continue;
+            }
+            // Face shading is already baked into the vertex colors
+            Material material = ModelUtil.getMaterial(renderTypes.get(layer), false);
+            if (material != null) {
+                meshes.add(new Model.ConfiguredMesh(material, new LayerMesh(data)));
+            }
+        }
+        if (meshes.isEmpty()) {
+            return null;
+        }
+        Model model = new SimpleModel(meshes);
+        CLEANER.register(model, mesh.retain()::release);
+        return model;
+    }
+
+    /**
+     * One layer of baked vertices. Quads are emitted four vertices at a time, matching {@link QuadMesh}.
+     */
+    private static final class LayerMesh implements QuadMesh {
+        /** Valid as long as the model's mesh reference, so as long as the model. */
+        private final IntBuffer data;
+        private final Vector4f boundingSphere;
+
+        private LayerMesh(IntBuffer data) {
+            this.data = data;
+            this.boundingSphere = computeBoundingSphere(data);
+        }
+
+        @Override
+        public int vertexCount() {
+            return data.limit() / BakedLittleTilesMesh.VERTEX_STRIDE;
+        }
+
+        @Override
+        public void write(MutableVertexList vertexList) {
+            int stride = BakedLittleTilesMesh.VERTEX_STRIDE;
+            for (int vertex = 0, i = 0; i < data.limit(); vertex++, i += stride) {
+                int color = data.get(i + 3);
+                Direction face = DIRECTIONS[data.get(i + 6)];
+                vertexList.x(vertex, Float.intBitsToFloat(data.get(i)));
+                vertexList.y(vertex, Float.intBitsToFloat(data.get(i + 1)));
+                vertexList.z(vertex, Float.intBitsToFloat(data.get(i + 2)));
+                vertexList.r(vertex, ((color >> 16) & 0xFF) / 255f);
+                vertexList.g(vertex, ((color >> 8) & 0xFF) / 255f);
+                vertexList.b(vertex, (color & 0xFF) / 255f);
+                vertexList.a(vertex, ((color >>> 24) & 0xFF) / 255f);
+                vertexList.u(vertex, Float.intBitsToFloat(data.get(i + 4)));
+                vertexList.v(vertex, Float.intBitsToFloat(data.get(i + 5)));
+                vertexList.overlay(vertex, OverlayTexture.NO_OVERLAY);
+                vertexList.light(vertex, 0);
+                vertexList.normalX(vertex, face.getStepX());
+                vertexList.normalY(vertex, face.getStepY());
+                vertexList.normalZ(vertex, face.getStepZ());
+            }
+        }
+
+        @Override
+        public Vector4fc boundingSphere() {
+            return boundingSphere;
+        }
+
+        private static Vector4f computeBoundingSphere(IntBuffer data) {
+            float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+            float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+            for (int i = 0; i < data.limit(); i += BakedLittleTilesMesh.VERTEX_STRIDE) {
+                float x = Float.intBitsToFloat(data.get(i));
+                float y = Float.intBitsToFloat(data.get(i + 1));
+                float z = Float.intBitsToFloat(data.get(i + 2));
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                minZ = Math.min(minZ, z);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+                maxZ = Math.max(maxZ, z);
+            }
+            float dx = maxX - minX, dy = maxY - minY, dz = maxZ - minZ;
+            float radius = (float) Math.sqrt(dx * dx + dy * dy + dz * dz) / 2;
+            return new Vector4f((minX + maxX) / 2, (minY + maxY) / 2, (minZ + maxZ) / 2, radius);
+        }
+    }
+}
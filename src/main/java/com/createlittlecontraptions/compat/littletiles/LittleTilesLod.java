@@ -0,0 +1,364 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import com.createlittlecontraptions.ClientConfig;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import team.creative.creativecore.client.render.box.RenderBox;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distance-based level of detail for LittleTiles blocks on contraptions.
+ *
+ * <ul>
+ * <li>{@link #FULL}: the baked tile mesh.</li>
+ * <li>{@link #COARSE}: tiles resampled into a voxel grid of {@link ClientConfig#LOD_COARSE_RESOLUTION}
+ * cells per edge, greedy-meshed into as few boxes as possible.</li>
+ * <li>{@link #CUBE}: one cube over the tiles' bounds, with the dominant tile's texture and the
+ * volume-weighted average tile color.</li>
+ * </ul>
+ *
+ * Simplified meshes are built on first use from the block's render snapshot (see
+ * LittleTilesRenderSnapshot) and shared by tile content. The cache holds a reference to each of them
+ * (see BakedLittleTilesMesh#retain) until it evicts or clears it, or no block uses the content any
+ * more (see {@link #forget}). The level is picked per frame
+ * from the camera's distance to the contraption.
+ */
+public final class LittleTilesLod {
+
+    public static final int FULL = 0;
+    public static final int COARSE = 1;
+    public static final int CUBE = 2;
+    public static final int LEVELS = 3;
+
+    private static final int MAX_MESHES = 512;
+
+    /** Tile content, including its grid size: the same content on another grid is a different shape. */
+    private record Key(LittleTilesContentStore.Fingerprint content, int level, int resolution) {
+    }
+
+    private static final Map<Key, BakedLittleTilesMesh> MESHES = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, BakedLittleTilesMesh> eldest) {
+            if (size() > MAX_MESHES) {
+                eldest.getValue().release();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private static long builds = 0;
+
+    /**
+     * One material inside a coarse cell: what is drawn and into which layer.
+     */
+    private record Material(BlockState state, int color, int layer) {
+    }
+
+    private LittleTilesLod() {
+    }
+
+    /**
+     * The level to draw a contraption with, from the camera's distance to its bounding box.
+     */
+    public static int select(Entity contraptionEntity) {
+        if (!ClientConfig.LOD_ENABLED.get() || contraptionEntity == null) {
+            return FULL;
+        }
+
+        Vec3 camera = Minecraft.getInstance().gameRenderer.getMainCamera().getPosition();
+        double distanceSqr = distanceSqr(contraptionEntity.getBoundingBox(), camera);
+        int coarse = ClientConfig.LOD_COARSE_DISTANCE.get();
+        // A cube distance below the coarse one would skip COARSE entirely
+        int cube = Math.max(ClientConfig.LOD_CUBE_DISTANCE.get(), coarse);
+        if (distanceSqr > (double) cube * cube) {
+            return CUBE;
+        }
+        return distanceSqr > (double) coarse * coarse ? COARSE : FULL;
+    }
+
+    /**
+     * The mesh of a decoded block at the given level, with a reference of its own for the caller to
+     * release. {@link #FULL} returns the block's baked mesh, which the caller must hold a reference to.
+     * Safe to call from build workers: simplification runs outside the lock, so two workers may
+     * occasionally both build the same mesh and the last one wins.
+     */
+    public static BakedLittleTilesMesh getMesh(LittleTilesDataCache.CachedBlock cached, int level) {
+        LittleTilesRenderSnapshot snapshot = cached.getSnapshot();
+        if (level == FULL || snapshot.isEmpty()) {
+            return cached.getMesh().retain();
+        }
+
+        int resolution = level == CUBE ? 1 : Math.min(ClientConfig.LOD_COARSE_RESOLUTION.get(), snapshot.getGridCount());
+        Key key = new Key(cached.getFingerprint(), level, resolution);
+        synchronized (LittleTilesLod.class) {
+            BakedLittleTilesMesh mesh = MESHES.get(key);
+            if (mesh != null) {
+                return mesh.retain();
+            }
+        }
+
+        BakedLittleTilesMesh mesh = level == CUBE ? bakeCube(snapshot) : bakeCoarse(snapshot, resolution);
+        synchronized (LittleTilesLod.class) {
+            builds++;
+            BakedLittleTilesMesh replaced = MESHES.put(key, mesh);
+            if (replaced != null) {
+                replaced.release();
+            }
+            return mesh.retain();
+        }
+    }
+
+    /**
+     * Drops the simplified meshes of a content no block uses any more. Called by
+     * LittleTilesContentStore; a build that was already running for it is kept until evicted.
+     */
+    static synchronized void forget(LittleTilesContentStore.Fingerprint content) {
+        Iterator<Map.Entry<Key, BakedLittleTilesMesh>> iterator = MESHES.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, BakedLittleTilesMesh> entry = iterator.next();
+            if (entry.getKey().content().equals(content)) {
+                entry.getValue().release();
+                iterator.remove();
+            }
+        }
+    }
+
+    public static synchronized void clear() {
+        for (BakedLittleTilesMesh mesh : MESHES.values()) {
+            mesh.release();
+        }
+        MESHES.clear();
+    }
+
+    public static synchronized String getStats() {
+        return String.format("LittleTiles LOD: %d simplified meshes, %d builds", MESHES.size(), builds);
+    }
+
+    /**
+     * Resamples the tiles into {@code resolution}^3 cells. A cell is solid when tiles fill at least
+     * half of it, and takes the material covering most of it. Runs of equal cells are then merged
+     * greedily along x, y and z.
+     */
+    private static BakedLittleTilesMesh bakeCoarse(LittleTilesRenderSnapshot snapshot, int resolution) {
+        // Cell i spans grid units [edges[i], edges[i + 1]); resolution never exceeds the grid size
+        int[] edges = new int[resolution + 1];
+        for (int i = 0; i <= resolution; i++) {
+            edges[i] = i * snapshot.getGridCount() / resolution;
+        }
+        List<RenderType> renderTypes = RenderType.chunkBufferLayers();
+
+        @SuppressWarnings("unchecked")
+        Map<Material, Long>[] volumes = new Map[resolution * resolution * resolution];
+        Material current = null;
+        for (int i = 0; i < snapshot.getBoxCount(); i++) {
+            // Boxes of one tile are adjacent and share their material
+            if (current == null || current.color() != snapshot.getColor(i) || current.layer() != snapshot.getLayer(i)
+                    || current.state() != snapshot.getState(i)) {
+                current = new Material(snapshot.getState(i), snapshot.getColor(i), snapshot.getLayer(i));
+            }
+            int minX = snapshot.getMinX(i), minY = snapshot.getMinY(i), minZ = snapshot.getMinZ(i);
+            int maxX = snapshot.getMaxX(i), maxY = snapshot.getMaxY(i), maxZ = snapshot.getMaxZ(i);
+            for (int x = firstCell(edges, minX); x < resolution && edges[x] < maxX; x++) {
+                for (int y = firstCell(edges, minY); y < resolution && edges[y] < maxY; y++) {
+                    for (int z = firstCell(edges, minZ); z < resolution && edges[z] < maxZ; z++) {
+                        long overlap = overlap(minX, maxX, edges[x], edges[x + 1])
+                            * overlap(minY, maxY, edges[y], edges[y + 1])
+                            * overlap(minZ, maxZ, edges[z], edges[z + 1]);
+                        if (overlap > 0) {
+                            int index = (x * resolution + y) * resolution + z;
+                            if (volumes[index] == null) {
+                                volumes[index] = new HashMap<>();
+                            }
+                            volumes[index].merge(current, overlap, Long::sum);
+                        }
+                    }
+                }
+            }
+        }
+
+        Material[] cells = new Material[volumes.length];
+        for (int i = 0; i < volumes.length; i++) {
+            if (volumes[i] == null) {
+                continue;
+            }
+            int x = i / (resolution * resolution), y = i / resolution % resolution, z = i % resolution;
+            long cellVolume = (long) (edges[x + 1] - edges[x]) * (edges[y + 1] - edges[y]) * (edges[z + 1] - edges[z]);
+            long total = 0;
+            Material dominant = null;
+            long dominantVolume = 0;
+            for (Map.Entry<Material, Long> entry : volumes[i].entrySet()) {
+                total += entry.getValue();
+                if (entry.getValue() > dominantVolume) {
+                    dominant = entry.getKey();
+                    dominantVolume = entry.getValue();
+                }
+            }
+            if (total * 2 >= cellVolume) {
+                cells[i] = dominant;
+            }
+        }
+
+        Builder builder = new Builder(renderTypes.size());
+        float pixel = snapshot.getPixelLength();
+        for (int x = 0; x < resolution; x++) {
+            for (int y = 0; y < resolution; y++) {
+                for (int z = 0; z < resolution; z++) {
+                    Material material = cells[(x * resolution + y) * resolution + z];
+                    if (material == null) {
+                        continue;
+                    }
+
+                    int x1 = x + 1;
+                    while (x1 < resolution && material.equals(cells[(x1 * resolution + y) * resolution + z])) {
+                        x1++;
+                    }
+                    int y1 = y + 1;
+                    while (y1 < resolution && isRun(cells, resolution, material, x, x1, y1, y1 + 1, z, z + 1)) {
+                        y1++;
+                    }
+                    int z1 = z + 1;
+                    while (z1 < resolution && isRun(cells, resolution, material, x, x1, y, y1, z1, z1 + 1)) {
+                        z1++;
+                    }
+                    for (int cx = x; cx < x1; cx++) {
+                        for (int cy = y; cy < y1; cy++) {
+                            for (int cz = z; cz < z1; cz++) {
+                                cells[(cx * resolution + cy) * resolution + cz] = null;
+                            }
+                        }
+                    }
+                    builder.add(material, edges[x] * pixel, edges[y] * pixel, edges[z] * pixel,
+                        edges[x1] * pixel, edges[y1] * pixel, edges[z1] * pixel);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * One cube over the bounds of all tiles.
+     */
+    private static BakedLittleTilesMesh bakeCube(LittleTilesRenderSnapshot snapshot) {
+        List<RenderType> renderTypes = RenderType.chunkBufferLayers();
+        int grid = snapshot.getGridCount();
+        int minX = grid, minY = grid, minZ = grid, maxX = 0, maxY = 0, maxZ = 0;
+        long a = 0, r = 0, g = 0, b = 0, total = 0;
+        Map<Material, Long> volumes = new HashMap<>();
+
+        for (int i = 0; i < snapshot.getBoxCount(); i++) {
+            int boxMinX = snapshot.getMinX(i), boxMinY = snapshot.getMinY(i), boxMinZ = snapshot.getMinZ(i);
+            int boxMaxX = snapshot.getMaxX(i), boxMaxY = snapshot.getMaxY(i), boxMaxZ = snapshot.getMaxZ(i);
+            int color = snapshot.getColor(i);
+            long volume = (long) (boxMaxX - boxMinX) * (boxMaxY - boxMinY) * (boxMaxZ - boxMinZ);
+            minX = Math.min(minX, boxMinX);
+            minY = Math.min(minY, boxMinY);
+            minZ = Math.min(minZ, boxMinZ);
+            maxX = Math.max(maxX, boxMaxX);
+            maxY = Math.max(maxY, boxMaxY);
+            maxZ = Math.max(maxZ, boxMaxZ);
+            a += ((color >>> 24) & 0xFF) * volume;
+            r += ((color >> 16) & 0xFF) * volume;
+            g += ((color >> 8) & 0xFF) * volume;
+            b += (color & 0xFF) * volume;
+            total += volume;
+            volumes.merge(new Material(snapshot.getState(i), 0, snapshot.getLayer(i)), volume, Long::sum);
+        }
+        if (total == 0) {
+            return BakedLittleTilesMesh.EMPTY;
+        }
+
+        Material dominant = null;
+        long dominantVolume = 0;
+        for (Map.Entry<Material, Long> entry : volumes.entrySet()) {
+            if (entry.getValue() > dominantVolume) {
+                dominant = entry.getKey();
+                dominantVolume = entry.getValue();
+            }
+        }
+        int color = (int) (a / total) << 24 | (int) (r / total) << 16 | (int) (g / total) << 8 | (int) (b / total);
+
+        Builder builder = new Builder(renderTypes.size());
+        float pixel = snapshot.getPixelLength();
+        builder.add(new Material(dominant.state(), color, dominant.layer()),
+            minX * pixel, minY * pixel, minZ * pixel, maxX * pixel, maxY * pixel, maxZ * pixel);
+        return builder.build();
+    }
+
+    private static boolean isRun(Material[] cells, int resolution, Material material, int x0, int x1, int y0, int y1, int z0, int z1) {
+        for (int x = x0; x < x1; x++) {
+            for (int y = y0; y < y1; y++) {
+                for (int z = z0; z < z1; z++) {
+                    if (!material.equals(cells[(x * resolution + y) * resolution + z])) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int firstCell(int[] edges, int min) {
+        int cell = 0;
+        while (cell < edges.length - 2 && edges[cell + 1] <= min) {
+            cell++;
+        }
+        return cell;
+    }
+
+    private static long overlap(int min, int max, int cellMin, int cellMax) {
+        return Math.max(0, Math.min(max, cellMax) - Math.max(min, cellMin));
+    }
+
+    private static double distanceSqr(AABB box, Vec3 point) {
+        double dx = Math.max(0, Math.max(box.minX - point.x, point.x - box.maxX));
+        double dy = Math.max(0, Math.max(box.minY - point.y, point.y - box.maxY));
+        double dz = Math.max(0, Math.max(box.minZ - point.z, point.z - box.maxZ));
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Collects simplified boxes into per-layer vertex data, using the same face appearance as the
+     * full mesh.
+     */
+    private static final class Builder {
+        private final IntArrayList[] layers;
+        private final Map<BlockState, LittleTilesMeshBaker.FaceAppearance[]> appearances = new HashMap<>();
+        private final RandomSource random = RandomSource.create();
+
+        Builder(int layerCount) {
+            layers = new IntArrayList[layerCount];
+        }
+
+        void add(Material material, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+            RenderBox box = new RenderBox(minX, minY, minZ, maxX, maxY, maxZ, material.state()).setColor(material.color());
+            LittleTilesMeshBaker.FaceAppearance[] faces = appearances.computeIfAbsent(material.state(),
+                state -> LittleTilesMeshBaker.resolveAppearance(state, random));
+            if (layers[material.layer()] == null) {
+                layers[material.layer()] = new IntArrayList();
+            }
+            LittleTilesMeshBaker.emitBox(layers[material.layer()], box, faces);
+        }
+
+        BakedLittleTilesMesh build() {
+            int[][] data = new int[layers.length][];
+            for (int i = 0; i < layers.length; i++) {
+                if (layers[i] != null && !layers[i].isEmpty()) {
+                    data[i] = layers[i].toIntArray();
+                }
+            }
+            return new BakedLittleTilesMesh(data);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.core.Direction;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.state.BlockState;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import team.creative.creativecore.client.render.box.RenderBox;
+import team.creative.creativecore.common.util.math.base.Facing;
+import team.creative.creativecore.common.util.type.list.Pair;
+import team.creative.littletiles.common.block.little.tile.LittleTile;
+import team.creative.littletiles.common.block.little.tile.parent.IParentCollection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns parsed LittleTiles data into a {@link BakedLittleTilesMesh}.
+ * Boxes come from {@link LittleTile#addRenderingBoxes}, which is what the LittleTiles render manager
+ * collects for placed blocks; each box face is textured with the matching face sprite of the tile's
+ * block model and shaded like vanilla block faces.
+ */
+public final class LittleTilesMeshBaker {
+
+    private static final Logger LOGGER = LogManager.getLogger("CreateLittleContraptions/LTMeshBaker");
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /** Per face: four corners, each as (x, y, z) selectors where 0 = min and 1 = max. Same winding as vanilla FaceInfo. */
+    private static final int[][][] FACE_CORNERS = {
+        {{0, 0, 1}, {0, 0, 0}, {1, 0, 0}, {1, 0, 1}}, // DOWN
+        {{0, 1, 0}, {0, 1, 1}, {1, 1, 1}, {1, 1, 0}}, // UP
+        {{1, 1, 0}, {1, 0, 0}, {0, 0, 0}, {0, 1, 0}}, // NORTH
+        {{0, 1, 1}, {0, 0, 1}, {1, 0, 1}, {1, 1, 1}}, // SOUTH
+        {{0, 1, 0}, {0, 0, 0}, {0, 0, 1}, {0, 1, 1}}, // WEST
+        {{1, 1, 1}, {1, 0, 1}, {1, 0, 0}, {1, 1, 0}}  // EAST
+    };
+
+    /** Per face: u axis, u flipped, v axis, v flipped (axis 0 = x, 1 = y, 2 = z). Matches vanilla default face UVs. */
+    private static final int[][] FACE_UV = {
+        {0, 0, 2, 1}, // DOWN
+        {0, 0, 2, 0}, // UP
+        {0, 1, 1, 1}, // NORTH
+        {0, 0, 1, 1}, // SOUTH
+        {2, 0, 1, 1}, // WEST
+        {2, 1, 1, 1}  // EAST
+    };
+
+    /** Vanilla directional shade for an overworld-like level. */
+    private static final float[] FACE_SHADE = {0.5f, 1.0f, 0.8f, 0.8f, 0.6f, 0.6f};
+
+    private LittleTilesMeshBaker() {
+    }
+
+    /**
+     * Bakes all tiles of the given block. Returns {@link BakedLittleTilesMesh#EMPTY} when there is
+     * nothing to draw; the caller then falls back to {@link LittleTilesAPIFacade#renderDirectly}.
+     */
+    public static BakedLittleTilesMesh bake(LittleTilesAPIFacade.ParsedLittleTilesData parsed) {
+        if (parsed == null || parsed.isEmpty()) {
+            return BakedLittleTilesMesh.EMPTY;
+        }
+
+        List<RenderType> renderTypes = RenderType.chunkBufferLayers();
+        IntArrayList[] builders = new IntArrayList[renderTypes.size()];
+        Map<BlockState, FaceAppearance[]> appearances = new HashMap<>();
+        RandomSource random = RandomSource.create();
+        List<RenderBox> boxes = new ArrayList<>();
+
+        try {
+            for (Pair<IParentCollection, LittleTile> pair : parsed.getTiles().allTiles()) {
+                LittleTile tile = pair.value;
+                int layer = findLayer(tile, renderTypes);
+                if (layer < 0) {
+                    continue;
+                }
+
+                boxes.clear();
+                tile.addRenderingBoxes(parsed.getGrid(), boxes);
+                if (boxes.isEmpty()) {
+                    continue;
+                }
+
+                if (builders[layer] == null) {
+                    builders[layer] = new IntArrayList();
+                }
+                for (RenderBox box : boxes) {
+                    BlockState state = box.state != null ? box.state : tile.getState();
+                    FaceAppearance[] faces = appearances.computeIfAbsent(state, s -> resolveAppearance(s, random));
+                    emitBox(builders[layer], box, faces);
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.error("Failed to bake LittleTiles mesh for {}: {}", parsed.getContainerPos(), e.getMessage(), e);
+            return BakedLittleTilesMesh.EMPTY;
+        }
+
+        int[][] layers = new int[renderTypes.size()][];
+        for (int i = 0; i < builders.length; i++) {
+            if (builders[i] != null && !builders[i].isEmpty()) {
+                layers[i] = builders[i].toIntArray();
+            }
+        }
+        return new BakedLittleTilesMesh(layers);
+    }
+
+    /**
+     * Bakes render boxes LittleTiles built for the block while it was placed (see
+     * LittleTilesAssemblyCapture), one list per chunk render layer. Their faces were culled against
+     * the world, so faces on the block boundary are drawn regardless: the neighbours that hid them
+     * may not have moved with the block, and ContraptionFaceCuller culls them again against the
+     * contraption.
+     */
+    public static BakedLittleTilesMesh bake(List<RenderBox>[] boxes) {
+        IntArrayList[] builders = new IntArrayList[boxes.length];
+        Map<BlockState, FaceAppearance[]> appearances = new HashMap<>();
+        RandomSource random = RandomSource.create();
+
+        for (int layer = 0; layer < boxes.length; layer++) {
+            if (boxes[layer] == null) {
+                continue;
+            }
+            for (RenderBox box : boxes[layer]) {
+                if (box.state == null) {
+                    continue;
+                }
+                if (builders[layer] == null) {
+                    builders[layer] = new IntArrayList();
+                }
+                FaceAppearance[] faces = appearances.computeIfAbsent(box.state, s -> resolveAppearance(s, random));
+                emitBox(builders[layer], box, faces, true);
+            }
+        }
+
+        int[][] layers = new int[boxes.length][];
+        for (int i = 0; i < builders.length; i++) {
+            if (builders[i] != null && !builders[i].isEmpty()) {
+                layers[i] = builders[i].toIntArray();
+            }
+        }
+        return new BakedLittleTilesMesh(layers);
+    }
+
+    static int findLayer(LittleTile tile, List<RenderType> renderTypes) {
+        for (int i = 0; i < renderTypes.size(); i++) {
+            if (tile.canRenderInLayer(renderTypes.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Appends the visible faces of one box to {@code out}, {@link BakedLittleTilesMesh#VERTEX_STRIDE} ints per vertex.
+     */
+    static void emitBox(IntArrayList out, RenderBox box, FaceAppearance[] faces) {
+        emitBox(out, box, faces, false);
+    }
+
+    /**
+     * As {@link #emitBox(IntArrayList, RenderBox, FaceAppearance[])}; with {@code boundaryFaces} set,
+     * faces lying on the block boundary are emitted even when the box has them switched off.
+     */
+    static void emitBox(IntArrayList out, RenderBox box, FaceAppearance[] faces, boolean boundaryFaces) {
+        float[] min = {box.minX, box.minY, box.minZ};
+        float[] max = {box.maxX, box.maxY, box.maxZ};
+
+        for (Direction direction : DIRECTIONS) {
+            if (!box.shouldRenderFace(Facing.get(direction)) && !(boundaryFaces && isOnBoundary(min, max, direction))) {
+                continue;
+            }
+
+            int face = direction.ordinal();
+            FaceAppearance appearance = faces[face];
+            int color = shade(multiply(box.color, appearance.tint), FACE_SHADE[face]);
+            int[] uv = FACE_UV[face];
+
+            for (int[] corner : FACE_CORNERS[face]) {
+                float x = corner[0] == 0 ? min[0] : max[0];
+                float y = corner[1] == 0 ? min[1] : max[1];
+                float z = corner[2] == 0 ? min[2] : max[2];
+                float[] pos = {x, y, z};
+                float u = clamp(uv[1] == 0 ? pos[uv[0]] : 1 - pos[uv[0]]);
+                float v = clamp(uv[3] == 0 ? pos[uv[2]] : 1 - pos[uv[2]]);
+
+                out.add(Float.floatToRawIntBits(x));
+                out.add(Float.floatToRawIntBits(y));
+                out.add(Float.floatToRawIntBits(z));
+                out.add(color);
+                out.add(Float.floatToRawIntBits(appearance.u0 + (appearance.u1 - appearance.u0) * u));
+                out.add(Float.floatToRawIntBits(appearance.v0 + (appearance.v1 - appearance.v0) * v));
+                out.add(face);
+            }
+        }
+    }
+
+    private static boolean isOnBoundary(float[] min, float[] max, Direction direction) {
+        int axis = direction.getAxis().ordinal();
+        return direction.getAxisDirection() == Direction.AxisDirection.POSITIVE ? max[axis] >= 1 - 1.0e-4f : min[axis] <= 1.0e-4f;
+    }
+
+    /**
+     * Looks up the sprite and tint of every face of the block model once per state.
+     */
+    static FaceAppearance[] resolveAppearance(BlockState state, RandomSource random) {
+        Minecraft mc = Minecraft.getInstance();
+        BakedModel model = mc.getBlockRenderer().getBlockModel(state);
+        FaceAppearance[] faces = new FaceAppearance[DIRECTIONS.length];
+
+        for (Direction direction : DIRECTIONS) {
+            random.setSeed(42L);
+            BakedQuad quad = firstQuad(model.getQuads(state, direction, random), direction);
+            if (quad == null) {
+                random.setSeed(42L);
+                quad = firstQuad(model.getQuads(state, null, random), direction);
+            }
+
+            if (quad == null) {
+                faces[direction.ordinal()] = FaceAppearance.of(model.getParticleIcon(), -1);
+                continue;
+            }
+            int tint = quad.isTinted() ? mc.getBlockColors().getColor(state, null, null, quad.getTintIndex()) : -1;
+            faces[direction.ordinal()] = FaceAppearance.of(quad.getSprite(), tint);
+        }
+        return faces;
+    }
+
+    private static BakedQuad firstQuad(List<BakedQuad> quads, Direction direction) {
+        for (BakedQuad quad : quads) {
+            if (quad.getDirection() == direction) {
+                return quad;
+            }
+        }
+        return null;
+    }
+
+    private static int multiply(int argb, int rgb) {
+        if (rgb == -1) {
+            return argb;
+        }
+        int r = ((argb >> 16) & 0xFF) * ((rgb >> 16) & 0xFF) / 255;
+        int g = ((argb >> 8) & 0xFF) * ((rgb >> 8) & 0xFF) / 255;
+        int b = (argb & 0xFF) * (rgb & 0xFF) / 255;
+        return (argb & 0xFF000000) | (r << 16) | (g << 8) | b;
+    }
+
+    private static int shade(int argb, float shade) {
+        int r = (int) (((argb >> 16) & 0xFF) * shade);
+        int g = (int) (((argb >> 8) & 0xFF) * shade);
+        int b = (int) ((argb & 0xFF) * shade);
+        return (argb & 0xFF000000) | (r << 16) | (g << 8) | b;
+    }
+
+    private static float clamp(float value) {
+        return value < 0 ? 0 : Math.min(value, 1);
+    }
+
+    /**
+     * Atlas UV bounds of a face's sprite and its tint (-1 for none).
+     */
+    record FaceAppearance(float u0, float u1, float v0, float v1, int tint) {
+        static FaceAppearance of(TextureAtlasSprite sprite, int tint) {
+            return new FaceAppearance(sprite.getU0(), sprite.getU1(), sprite.getV0(), sprite.getV1(), tint);
+        }
+    }
+}
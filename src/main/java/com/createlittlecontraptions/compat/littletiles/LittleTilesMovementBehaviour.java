@@ -1,5 +1,6 @@
 package com.createlittlecontraptions.compat.littletiles;
 
+import com.createlittlecontraptions.utils.NbtFingerprint;
 import org.slf4j.Logger;
 import com.mojang.logging.LogUtils;
 import net.minecraft.core.BlockPos;
@@ -51,7 +52,9 @@ public class LittleTilesMovementBehaviour {
                 data.putInt("y", pos.getY());
                 data.putInt("z", pos.getZ());
                 
-                LOGGER.debug("Dados LittleTiles preparados com sucesso: {} bytes de dados NBT", data.toString().length());
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Dados LittleTiles preparados com sucesso: {} bytes de dados NBT", NbtFingerprint.of(data).getEncodedSize());
+                }
                 return data;
             } catch (Exception e) {
                 LOGGER.error("Erro ao preparar dados LittleTiles para movimento", e);
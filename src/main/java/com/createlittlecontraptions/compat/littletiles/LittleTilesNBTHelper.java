@@ -2,20 +2,29 @@ package com.createlittlecontraptions.compat.littletiles;
 
 import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.shapes.BooleanOp;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import net.minecraft.world.phys.shapes.Shapes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import team.creative.creativecore.common.util.type.list.Pair;
 import team.creative.littletiles.common.block.entity.BETiles;
+import team.creative.littletiles.common.block.little.tile.LittleTile;
+import team.creative.littletiles.common.block.little.tile.parent.IParentCollection;
+import team.creative.littletiles.common.grid.LittleGrid;
+import team.creative.littletiles.common.math.box.LittleBox;
 import team.creative.littletiles.common.block.little.tile.parent.BlockParentCollection;
 import team.creative.littletiles.common.structure.LittleStructure;
 import team.creative.littletiles.common.structure.attribute.LittleStructureAttribute;
 
+import java.util.List;
+
 /**
  * Helper class for loading and processing LittleTiles NBT data directly,
  * bypassing the normal BlockEntity lifecycle that causes issues in VirtualRenderWorld.
@@ -78,19 +87,37 @@ public class LittleTilesNBTHelper {
 
         try {
             // Render all loaded structures that have TICK_RENDERING attribute
+            int rendered = 0;
             for (LittleStructure structure : tiles.loadedStructures(LittleStructureAttribute.TICK_RENDERING)) {
                 // Use the structure's renderTick method (same as BETilesRenderer)
                 structure.renderTick(poseStack, bufferSource, null, partialTicks);
+                rendered++;
             }
             
-            LOGGER.debug("Rendered {} tick-rendering structures", 
-                tiles.loadedStructures(LittleStructureAttribute.TICK_RENDERING).spliterator().estimateSize());
+            LOGGER.debug("Rendered {} tick-rendering structures", rendered);
                 
         } catch (Exception e) {
             LOGGER.error("Failed to render tiles collection: ", e);
         }
     }
 
+    /**
+     * Renders already classified tick-rendering structures (see
+     * LittleTilesAPIFacade.ParsedLittleTilesData#getRenderableStructures), the per-frame part of a
+     * block whose static tiles are baked. {@code pos} is the block being drawn; the structures may
+     * be shared with other blocks of the same content.
+     */
+    public static void renderStructures(List<LittleStructure> structures, PoseStack poseStack,
+                                        MultiBufferSource bufferSource, BlockPos pos, float partialTicks) {
+        for (LittleStructure structure : structures) {
+            try {
+                structure.renderTick(poseStack, bufferSource, pos, partialTicks);
+            } catch (Exception e) {
+                LOGGER.error("Failed to render tick-rendering structure at {}: ", pos, e);
+            }
+        }
+    }
+
     /**
      * Gets collision shape from loaded tiles collection
      */
@@ -98,16 +125,38 @@ public class LittleTilesNBTHelper {
         if (tiles == null) {
             return Shapes.empty();
         }
+        return buildCollisionShape(tiles, tiles.getGrid());
+    }
+
+    /**
+     * Builds the collision shape of a tiles collection the same way BlockTile does for placed blocks:
+     * structures with the noCollision attribute and tiles of non-colliding blocks (water, etc.) are skipped.
+     * All boxes are joined unoptimized and the result is optimized once, so touching boxes are merged
+     * into as few AABBs as possible for the entity collider.
+     */
+    public static VoxelShape buildCollisionShape(BlockParentCollection tiles, LittleGrid grid) {
+        if (tiles == null || grid == null) {
+            return Shapes.empty();
+        }
 
         try {
-            // This is a simplified approach - in a full implementation, we'd need to
-            // convert LittleBox collections to VoxelShape
-            // For now, return empty shape to avoid crashes
-            LOGGER.debug("Getting collision shape for {} total tiles", tiles.totalSize());
-            return Shapes.empty();
-            
+            VoxelShape shape = Shapes.empty();
+            for (Pair<IParentCollection, LittleTile> pair : tiles.allTiles()) {
+                IParentCollection parent = pair.key;
+                if (parent.isStructure() && LittleStructureAttribute.noCollision(parent.getAttribute())) {
+                    continue;
+                }
+                LittleTile tile = pair.value;
+                if (tile.getBlock().noCollision()) {
+                    continue;
+                }
+                for (LittleBox box : tile) {
+                    shape = Shapes.joinUnoptimized(shape, Shapes.create(box.getBB(grid)), BooleanOp.OR);
+                }
+            }
+            return shape.optimize();
         } catch (Exception e) {
-            LOGGER.error("Failed to get collision shape: ", e);
+            LOGGER.error("Failed to build collision shape: ", e);
             return Shapes.empty();
         }
     }
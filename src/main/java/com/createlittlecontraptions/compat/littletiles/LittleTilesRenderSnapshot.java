@@ -0,0 +1,180 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import team.creative.creativecore.common.util.type.list.Pair;
+import team.creative.littletiles.common.block.little.tile.LittleTile;
+import team.creative.littletiles.common.block.little.tile.parent.IParentCollection;
+import team.creative.littletiles.common.math.box.LittleBox;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Flyweight copy of what drawing a LittleTiles block needs, so a cached block does not have to keep
+ * its BlockParentCollection with the structure graph and per-tile objects around:
+ *
+ * <pre>
+ * LittleTilesRenderSnapshot snapshot = LittleTilesRenderSnapshot.of(parsed);
+ * for (int i = 0; i &lt; snapshot.getBoxCount(); i++) {
+ *     snapshot.getMinX(i); snapshot.getState(i); snapshot.getLayer(i); // ...
+ * }
+ * </pre>
+ *
+ * Every box is packed into parallel arrays: its bounds in grid units, its block state as an id of
+ * {@link Block#BLOCK_STATE_REGISTRY}, its colour and its chunk render layer. Boxes are stored in tile
+ * order, so meshing walks the arrays front to back. Built once per decoded block (see
+ * LittleTilesDataCache.CachedBlock).
+ */
+public final class LittleTilesRenderSnapshot {
+
+    public static final LittleTilesRenderSnapshot EMPTY = new LittleTilesRenderSnapshot(1, 1f, new short[0], new int[0], new int[0], new byte[0]);
+
+    /** minX, minY, minZ, maxX, maxY, maxZ per box. */
+    private static final int BOUNDS_STRIDE = 6;
+
+    private final int gridCount;
+    private final float pixelLength;
+    private final short[] bounds;
+    private final int[] states;
+    private final int[] colors;
+    private final byte[] layers;
+
+    private LittleTilesRenderSnapshot(int gridCount, float pixelLength, short[] bounds, int[] states, int[] colors, byte[] layers) {
+        this.gridCount = gridCount;
+        this.pixelLength = pixelLength;
+        this.bounds = bounds;
+        this.states = states;
+        this.colors = colors;
+        this.layers = layers;
+    }
+
+    /**
+     * Packs the boxes of every tile that renders in a chunk layer.
+     */
+    public static LittleTilesRenderSnapshot of(LittleTilesAPIFacade.ParsedLittleTilesData parsed) {
+        if (parsed == null || parsed.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<RenderType> renderTypes = RenderType.chunkBufferLayers();
+        ShortArrayList bounds = new ShortArrayList();
+        IntArrayList states = new IntArrayList();
+        IntArrayList colors = new IntArrayList();
+        ByteArrayList layers = new ByteArrayList();
+        for (Pair<IParentCollection, LittleTile> pair : parsed.getTiles().allTiles()) {
+            LittleTile tile = pair.value;
+            int layer = LittleTilesMeshBaker.findLayer(tile, renderTypes);
+            if (layer < 0) {
+                continue;
+            }
+            int state = Block.BLOCK_STATE_REGISTRY.getId(tile.getState());
+            for (LittleBox box : tile) {
+                bounds.add((short) box.minX);
+                bounds.add((short) box.minY);
+                bounds.add((short) box.minZ);
+                bounds.add((short) box.maxX);
+                bounds.add((short) box.maxY);
+                bounds.add((short) box.maxZ);
+                states.add(state);
+                colors.add(tile.color);
+                layers.add((byte) layer);
+            }
+        }
+        return new LittleTilesRenderSnapshot(parsed.getGrid().count, parsed.getGrid().pixelLengthF,
+            bounds.toShortArray(), states.toIntArray(), colors.toIntArray(), layers.toByteArray());
+    }
+
+    public boolean isEmpty() {
+        return states.length == 0;
+    }
+
+    public int getBoxCount() {
+        return states.length;
+    }
+
+    /**
+     * Grid units per block edge.
+     */
+    public int getGridCount() {
+        return gridCount;
+    }
+
+    /**
+     * Size of one grid unit in blocks.
+     */
+    public float getPixelLength() {
+        return pixelLength;
+    }
+
+    public int getMinX(int box) { return bounds[box * BOUNDS_STRIDE]; }
+    public int getMinY(int box) { return bounds[box * BOUNDS_STRIDE + 1]; }
+    public int getMinZ(int box) { return bounds[box * BOUNDS_STRIDE + 2]; }
+    public int getMaxX(int box) { return bounds[box * BOUNDS_STRIDE + 3]; }
+    public int getMaxY(int box) { return bounds[box * BOUNDS_STRIDE + 4]; }
+    public int getMaxZ(int box) { return bounds[box * BOUNDS_STRIDE + 5]; }
+
+    public int getStateId(int box) {
+        return states[box];
+    }
+
+    public BlockState getState(int box) {
+        return Block.stateById(states[box]);
+    }
+
+    public int getColor(int box) {
+        return colors[box];
+    }
+
+    /**
+     * Index into {@link RenderType#chunkBufferLayers()}.
+     */
+    public int getLayer(int box) {
+        return layers[box];
+    }
+
+    /**
+     * Writes the snapshot for LittleTilesDiskCache; {@link #getByteSize()} plus 12 bytes.
+     */
+    void write(ByteBuffer out) {
+        out.putInt(gridCount).putFloat(pixelLength).putInt(states.length);
+        out.asShortBuffer().put(bounds);
+        out.position(out.position() + 2 * bounds.length);
+        out.asIntBuffer().put(states).put(colors);
+        out.position(out.position() + 4 * (states.length + colors.length));
+        out.put(layers);
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write}.
+     */
+    static LittleTilesRenderSnapshot read(ByteBuffer in) {
+        int gridCount = in.getInt();
+        float pixelLength = in.getFloat();
+        int count = in.getInt();
+        if (count == 0) {
+            return EMPTY;
+        }
+        short[] bounds = new short[count * BOUNDS_STRIDE];
+        int[] states = new int[count];
+        int[] colors = new int[count];
+        byte[] layers = new byte[count];
+        in.asShortBuffer().get(bounds);
+        in.position(in.position() + 2 * bounds.length);
+        in.asIntBuffer().get(states).get(colors);
+        in.position(in.position() + 4 * (states.length + colors.length));
+        in.get(layers);
+        return new LittleTilesRenderSnapshot(gridCount, pixelLength, bounds, states, colors, layers);
+    }
+
+    /**
+     * Bytes held by the packed arrays.
+     */
+    public long getByteSize() {
+        return 2L * bounds.length + 4L * states.length + 4L * colors.length + layers.length;
+    }
+}
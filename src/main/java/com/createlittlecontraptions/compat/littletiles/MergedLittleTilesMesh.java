@@ -0,0 +1,167 @@
+package com.createlittlecontraptions.compat.littletiles;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.IntBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The baked meshes of every LittleTiles block on one contraption, concatenated per chunk render
+ * layer and moved into contraption-local space. Drawing it takes one buffer lookup per layer no
+ * matter how many blocks it holds.
+ *
+ * Uses the {@link BakedLittleTilesMesh} vertex layout plus one int per vertex: the index of the block
+ * it came from, so per-block light can still be applied. The vertex data lives off-heap in
+ * {@link MemoryUtil} allocations, as a merged mesh duplicates every vertex of its contraption and
+ * large contraptions reach tens of MB. The owner must call {@link #free} once the mesh is no longer
+ * drawn (see LittleTilesContraptionBatch); {@link #getLiveBytes} counts what has not been freed yet.
+ */
+public final class MergedLittleTilesMesh {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int STRIDE = BakedLittleTilesMesh.VERTEX_STRIDE + 1;
+    private static final AtomicLong LIVE_BYTES = new AtomicLong();
+
+    /** Per layer: address of the vertex data, or 0 when the layer is empty. */
+    private final long[] addresses;
+    private final int[] layerVertices;
+    private final int blockCount;
+    private final int vertexCount;
+    private final long bytes;
+    private boolean freed = false;
+
+    private MergedLittleTilesMesh(long[] addresses, int[] layerVertices, int blockCount, int vertexCount) {
+        this.addresses = addresses;
+        this.layerVertices = layerVertices;
+        this.blockCount = blockCount;
+        this.vertexCount = vertexCount;
+        this.bytes = (long) vertexCount * STRIDE * Integer.BYTES;
+    }
+
+    /**
+     * Concatenates the meshes, offsetting each by its block's local position.
+     */
+    public static MergedLittleTilesMesh merge(List<BakedLittleTilesMesh> meshes, List<BlockPos> offsets) {
+        int stride = BakedLittleTilesMesh.VERTEX_STRIDE;
+        int layerCount = RenderType.chunkBufferLayers().size();
+        long[] addresses = new long[layerCount];
+        int[] layerVertices = new int[layerCount];
+        int totalVertices = 0;
+
+        for (int layer = 0; layer < layerCount; layer++) {
+            int length = 0;
+            for (BakedLittleTilesMesh mesh : meshes) {
+                IntBuffer data = mesh.getLayer(layer);
+                length += data != null ? data.limit() : 0;
+            }
+            if (length == 0) {
+                continue;
+            }
+
+            int vertices = length / stride;
+            long address = MemoryUtil.nmemAlloc((long) vertices * STRIDE * Integer.BYTES);
+            if (address == 0L) {
+                // Nothing usable was allocated; release the layers that were
+                new MergedLittleTilesMesh(addresses, layerVertices, meshes.size(), totalVertices).free();
+                throw new OutOfMemoryError("Could not allocate " + vertices + " merged LittleTiles vertices");
+            }
+            long cursor = address;
+            for (int block = 0; block < meshes.size(); block++) {
+                IntBuffer data = meshes.get(block).getLayer(layer);
+                if (data == null) {
+                    continue;
+                }
+                BlockPos offset = offsets.get(block);
+                for (int i = 0; i < data.limit(); i += stride, cursor += STRIDE * Integer.BYTES) {
+                    MemoryUtil.memPutFloat(cursor, Float.intBitsToFloat(data.get(i)) + offset.getX());
+                    MemoryUtil.memPutFloat(cursor + 4, Float.intBitsToFloat(data.get(i + 1)) + offset.getY());
+                    MemoryUtil.memPutFloat(cursor + 8, Float.intBitsToFloat(data.get(i + 2)) + offset.getZ());
+                    for (int j = 3; j < stride; j++) {
+                        MemoryUtil.memPutInt(cursor + j * Integer.BYTES, data.get(i + j));
+                    }
+                    MemoryUtil.memPutInt(cursor + stride * Integer.BYTES, block);
+                }
+            }
+            addresses[layer] = address;
+            layerVertices[layer] = vertices;
+            totalVertices += vertices;
+            LIVE_BYTES.addAndGet((long) vertices * STRIDE * Integer.BYTES);
+        }
+        return new MergedLittleTilesMesh(addresses, layerVertices, meshes.size(), totalVertices);
+    }
+
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * Off-heap bytes held by this mesh.
+     */
+    public long getBytes() {
+        return freed ? 0 : bytes;
+    }
+
+    /**
+     * Off-heap bytes held by all merged meshes that have not been freed.
+     */
+    public static long getLiveBytes() {
+        return LIVE_BYTES.get();
+    }
+
+    /**
+     * Releases the vertex data. Safe to call more than once; the mesh draws nothing afterwards.
+     */
+    public void free() {
+        if (freed) {
+            return;
+        }
+        freed = true;
+        for (int layer = 0; layer < addresses.length; layer++) {
+            if (addresses[layer] != 0L) {
+                MemoryUtil.nmemFree(addresses[layer]);
+                LIVE_BYTES.addAndGet(-(long) layerVertices[layer] * STRIDE * Integer.BYTES);
+                addresses[layer] = 0L;
+            }
+        }
+    }
+
+    /**
+     * Issues all layers. The pose must be the contraption transform without any block offset;
+     * {@code blockLight[i]} is the packed light of the i-th merged block.
+     */
+    public void render(PoseStack.Pose pose, MultiBufferSource bufferSource, int[] blockLight, int packedOverlay) {
+        if (freed) {
+            return;
+        }
+        List<RenderType> renderTypes = RenderType.chunkBufferLayers();
+        for (int layer = 0; layer < addresses.length; layer++) {
+            long address = addresses[layer];
+            if (address == 0L) {
+                continue;
+            }
+
+            VertexConsumer consumer = bufferSource.getBuffer(renderTypes.get(layer));
+            long end = address + (long) layerVertices[layer] * STRIDE * Integer.BYTES;
+            for (long vertex = address; vertex < end; vertex += STRIDE * Integer.BYTES) {
+                Direction face = DIRECTIONS[MemoryUtil.memGetInt(vertex + 24)];
+                consumer.addVertex(pose, MemoryUtil.memGetFloat(vertex), MemoryUtil.memGetFloat(vertex + 4), MemoryUtil.memGetFloat(vertex + 8))
+                    .setColor(MemoryUtil.memGetInt(vertex + 12))
+                    .setUv(MemoryUtil.memGetFloat(vertex + 16), MemoryUtil.memGetFloat(vertex + 20))
+                    .setOverlay(packedOverlay)
+                    .setLight(blockLight[MemoryUtil.memGetInt(vertex + 28)])
+                    .setNormal(pose, face.getStepX(), face.getStepY(), face.getStepZ());
+            }
+        }
+    }
+}
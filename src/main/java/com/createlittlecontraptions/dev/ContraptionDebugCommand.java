@@ -8,13 +8,9 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.EntityBlock;
-import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.resources.ResourceLocation;
-import net.minecraft.core.registries.BuiltInRegistries;
 import org.slf4j.Logger;
 import com.mojang.logging.LogUtils;
+import com.createlittlecontraptions.utils.LittleTilesBlockClassifier;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -328,13 +324,13 @@ public class ContraptionDebugCommand {
             
             if (blocksData instanceof java.util.Map<?, ?> blocksMap) {
                 for (Object blockData : blocksMap.values()) {
-                    if (isLittleTilesBlock(blockData)) {
+                    if (LittleTilesBlockClassifier.isLittleTilesBlock(blockData)) {
                         count++;
                     }
                 }
             } else if (blocksData instanceof java.util.Collection<?> blocksCollection) {
                 for (Object blockData : blocksCollection) {
-                    if (isLittleTilesBlock(blockData)) {
+                    if (LittleTilesBlockClassifier.isLittleTilesBlock(blockData)) {
                         count++;
                     }
                 }
@@ -473,43 +469,4 @@ public class ContraptionDebugCommand {
         }
     }
     
-    private static boolean isLittleTilesBlock(Object blockData) {
-        if (blockData == null) return false;
-            
-            try {
-                // Verificar pelo nome da classe
-                String className = blockData.getClass().getName().toLowerCase();
-                if (className.contains("littletiles") || className.contains("little")) {
-                    return true;
-                }
-                
-                // Verificar se é um BlockState e obter o bloco
-                if (blockData instanceof BlockState) {
-                    BlockState state = (BlockState) blockData;
-                    Block block = state.getBlock();
-                    
-                    // Verificar pelo nome do registro do bloco
-                    ResourceLocation registryName = BuiltInRegistries.BLOCK.getKey(block);
-                    if (registryName != null && 
-                        (registryName.toString().contains("littletiles") || registryName.toString().contains("little"))) {
-                        return true;
-                    }
-                    
-                    // Verificar se o bloco tem uma BlockEntity específica do LittleTiles
-                    if (block instanceof EntityBlock) {
-                        String entityClassName = block.getClass().getName().toLowerCase();
-                        return entityClassName.contains("littletiles") || entityClassName.contains("little");
-                    }
-                }
-                
-                // Verificar pelo toString() que pode conter informações do registro
-                String stringRepresentation = blockData.toString().toLowerCase();
-                return stringRepresentation.contains("littletiles") || stringRepresentation.contains("little");
-                
-            } catch (Exception e) {
-                // Em caso de erro, usar a verificação mais básica
-                String blockName = blockData.getClass().getName().toLowerCase();
-                return blockName.contains("littletiles") || blockName.contains("little");
-            }
-    }
 }
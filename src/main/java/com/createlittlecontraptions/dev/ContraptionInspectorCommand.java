@@ -9,9 +9,12 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import org.slf4j.Logger;
 import com.mojang.logging.LogUtils;
+import com.createlittlecontraptions.utils.LittleTilesBlockClassifier;
+import com.createlittlecontraptions.utils.NbtFingerprint;
 
 import java.lang.reflect.Method;
 import java.util.List;
@@ -96,7 +99,7 @@ public class ContraptionInspectorCommand {
         for (Map.Entry<String, Integer> entry : info.blockTypes.entrySet()) {
             String blockName = entry.getKey();
             int count = entry.getValue();
-            boolean isLittleTiles = isLittleTilesBlock(blockName);
+            boolean isLittleTiles = LittleTilesBlockClassifier.isLittleTilesBlock(blockName);
             
             String color = isLittleTiles ? "§e" : "§7";
             String highlight = isLittleTiles ? " §c[LittleTiles]§r" : "";
@@ -176,18 +179,18 @@ public class ContraptionInspectorCommand {
                 CompoundTag nbt = getNBTFromBlockInfo(blockInfo);
                 
                 if (blockState != null) {
-                    String blockName = blockState.getBlock().getClass().getSimpleName();
+                    String blockName = BuiltInRegistries.BLOCK.getKey(blockState.getBlock()).toString();
                     info.blockTypes.merge(blockName, 1, Integer::sum);
                     
                     // Check if this is a LittleTiles block
-                    if (isLittleTilesBlock(blockState)) {
+                    if (LittleTilesBlockClassifier.isLittleTilesBlock(blockState)) {
                         info.littleTilesBlocks++;
                         
                         LittleTilesBlockInfo ltInfo = new LittleTilesBlockInfo();
                         ltInfo.blockName = blockName;
                         ltInfo.position = pos;
                         ltInfo.hasNBT = (nbt != null && !nbt.isEmpty());
-                        ltInfo.nbtSize = nbt != null ? nbt.toString().length() : 0;
+                        ltInfo.nbtSize = nbt != null ? NbtFingerprint.of(nbt).getEncodedSize() : 0;
                         
                         info.littleTilesBlocksInfo.add(ltInfo);
                     }
@@ -312,18 +315,7 @@ public class ContraptionInspectorCommand {
         return null;
     }
     
-    private static boolean isLittleTilesBlock(BlockState blockState) {
-        if (blockState == null) return false;
-        return isLittleTilesBlock(blockState.getBlock().getClass().getName());
-    }
     
-    private static boolean isLittleTilesBlock(String blockClassName) {
-        String lowerName = blockClassName.toLowerCase();
-        return lowerName.contains("team.creative.littletiles") ||
-               lowerName.contains("littletiles") ||
-               lowerName.contains("littletile") ||
-               lowerName.contains("little");
-    }
     
     // Data classes
     private static class ContraptionInfo {
@@ -339,6 +331,6 @@ public class ContraptionInspectorCommand {
         String blockName;
         BlockPos position;
         boolean hasNBT;
-        int nbtSize;
+        long nbtSize;
     }
 }
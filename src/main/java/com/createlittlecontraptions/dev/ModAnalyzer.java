@@ -7,8 +7,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.resources.ResourceLocation;
-import net.minecraft.core.registries.BuiltInRegistries;
+import com.createlittlecontraptions.utils.LittleTilesBlockClassifier;
 
 /**
  * Development tool for analyzing Create and LittleTiles mod internals
@@ -150,7 +149,7 @@ public class ModAnalyzer {
                         BlockState state = level.getBlockState(pos);
                         
                         // Verificar se é um bloco LittleTiles
-                        if (isLittleTilesBlock(state)) {
+                        if (LittleTilesBlockClassifier.isLittleTilesBlock(state)) {
                             count++;
                             if (count <= 5) { // Limitar logging
                                 LOGGER.info("Bloco LittleTiles encontrado em {}", pos);
@@ -163,27 +162,6 @@ public class ModAnalyzer {
             return count;
         }
         
-        /**
-         * Verifica se um BlockState é um bloco LittleTiles
-         */
-        private static boolean isLittleTilesBlock(BlockState state) {
-            if (state == null) return false;
-            
-            // Verificar pelo nome do bloco
-            String blockName = state.getBlock().toString().toLowerCase();
-            if (blockName.contains("littletiles") || blockName.contains("little")) {
-                return true;
-            }
-            
-            // Verificar pelo registro
-            ResourceLocation registryName = BuiltInRegistries.BLOCK.getKey(state.getBlock());
-            if (registryName != null) {
-                String regName = registryName.toString().toLowerCase();
-                return regName.contains("littletiles") || regName.contains("little");
-            }
-            
-            return false;
-    }
 
     public static void analyzeLittleTilesBlock(Level level, BlockPos pos, BlockState state) {
         LOGGER.info("=== LITTLETILES BLOCK ANALYSIS ===");
@@ -20,18 +20,13 @@ public class ClientRenderEventHandler {
     private static final Logger LOGGER = LogUtils.getLogger();
     
     /**
-     * Handles rendering events to ensure LittleTiles blocks are visible in contraptions.
+     * Handles rendering to ensure LittleTiles blocks are visible in contraptions.
+     * An AFTER_TRANSLUCENT_BLOCKS task; register it with RenderStageDispatcher when re-enabling this class.
      */
-    @SubscribeEvent
     public static void onRenderLevelStage(RenderLevelStageEvent event) {
-        // This event fires during level rendering and allows us to inject
-        // custom rendering logic for LittleTiles blocks in contraptions
-        
-        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_TRANSLUCENT_BLOCKS) {
-            // At this stage, we can ensure any missed LittleTiles blocks
-            // in contraptions are properly rendered
-            handleLittleTilesContraptionRendering(event);
-        }
+        // Runs after translucent blocks, where we can ensure any missed LittleTiles blocks
+        // in contraptions are properly rendered
+        handleLittleTilesContraptionRendering(event);
     }
     
     /**
@@ -0,0 +1,203 @@
+package com.createlittlecontraptions.events;
+
+import com.createlittlecontraptions.ClientConfig;
+import net.minecraft.client.renderer.culling.Frustum;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.RenderFrameEvent;
+import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
+import org.slf4j.Logger;
+import com.mojang.logging.LogUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * The mod's only {@link RenderLevelStageEvent} listener. Subsystems register their per-stage work
+ * here instead of subscribing themselves:
+ *
+ * <pre>
+ * RenderStageDispatcher.register(RenderLevelStageEvent.Stage.AFTER_SOLID_BLOCKS, "CreateRuntimeIntegration",
+ *     CreateRuntimeIntegration::onRenderLevelStage);
+ * RenderStageDispatcher.defer("batch build", () -> batch.build(level));
+ * </pre>
+ *
+ * All of it shares one per-frame budget ({@link ClientConfig#FRAME_BUDGET_MILLIS}). A stage runs its
+ * tasks in turn until the budget is spent; tasks that did not get to run go first at that stage next
+ * frame. One-off work such as mesh builds is queued with {@link #defer} and drained at the end of the
+ * frame with whatever budget is left. At least one task per stage and one deferred job per frame always
+ * run, so work is only ever delayed, never starved. A single task or job is not interrupted, so it
+ * should be small.
+ *
+ * Also owns the per-frame state other render code needs: the frame counter and the camera frustum.
+ */
+@EventBusSubscriber(modid = "createlittlecontraptions", bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public final class RenderStageDispatcher {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final Map<RenderLevelStageEvent.Stage, StageTasks> STAGES = new ConcurrentHashMap<>();
+    private static final Queue<Job> DEFERRED = new ConcurrentLinkedQueue<>();
+
+    private static long frame = 0;
+    /** Time spent on dispatched work this frame. */
+    private static long spentNanos = 0;
+    private static long budgetNanos = 0;
+    private static Frustum frustum = null;
+
+    private static long deferredRuns = 0;
+    private static long deferredNanos = 0;
+    private static long overBudgetFrames = 0;
+
+    private record Job(String name, Runnable work) {
+    }
+
+    private static final class Task {
+        final String name;
+        final Consumer<RenderLevelStageEvent> body;
+        long runs = 0;
+        long skips = 0;
+        long nanos = 0;
+
+        Task(String name, Consumer<RenderLevelStageEvent> body) {
+            this.name = name;
+            this.body = body;
+        }
+    }
+
+    private static final class StageTasks {
+        final List<Task> tasks = new CopyOnWriteArrayList<>();
+        /** Index of the task that runs first, so tasks skipped for budget go first next frame. */
+        int next = 0;
+    }
+
+    private RenderStageDispatcher() {
+    }
+
+    /**
+     * Runs {@code task} once per frame at {@code stage}, within the frame budget.
+     */
+    public static void register(RenderLevelStageEvent.Stage stage, String name, Consumer<RenderLevelStageEvent> task) {
+        STAGES.computeIfAbsent(stage, s -> new StageTasks()).tasks.add(new Task(name, task));
+        LOGGER.debug("Registered render task {} at {}", name, stage);
+    }
+
+    /**
+     * Queues one-off work to run on the render thread at the end of this or a later frame. Safe from
+     * any thread.
+     */
+    public static void defer(String name, Runnable work) {
+        DEFERRED.add(new Job(name, work));
+    }
+
+    /**
+     * Frames rendered so far; changes once per frame.
+     */
+    public static long getFrame() {
+        return frame;
+    }
+
+    /**
+     * The camera frustum of the current frame, captured at {@code AFTER_SOLID_BLOCKS}, or null
+     * before the first one.
+     */
+    public static Frustum getFrustum() {
+        return frustum;
+    }
+
+    @SubscribeEvent
+    public static void onRenderFramePre(RenderFrameEvent.Pre event) {
+        frame++;
+        spentNanos = 0;
+        budgetNanos = (long) (ClientConfig.FRAME_BUDGET_MILLIS.get() * 1_000_000L);
+    }
+
+    @SubscribeEvent
+    public static void onRenderLevelStage(RenderLevelStageEvent event) {
+        // Terrain is drawn before entities, so contraptions of this frame are tested against this frustum
+        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_SOLID_BLOCKS) {
+            frustum = event.getFrustum();
+        }
+
+        StageTasks stage = STAGES.get(event.getStage());
+        if (stage == null || stage.tasks.isEmpty()) {
+            return;
+        }
+
+        List<Task> tasks = stage.tasks;
+        int count = tasks.size();
+        int first = stage.next % count;
+        for (int i = 0; i < count; i++) {
+            Task task = tasks.get((first + i) % count);
+            if (i > 0 && isOverBudget()) {
+                // This and the remaining tasks go first next frame
+                stage.next = (first + i) % count;
+                for (int j = i; j < count; j++) {
+                    tasks.get((first + j) % count).skips++;
+                }
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                task.body.accept(event);
+            } catch (Exception e) {
+                LOGGER.error("Render task {} failed at {}", task.name, event.getStage(), e);
+            }
+            long elapsed = System.nanoTime() - start;
+            spentNanos += elapsed;
+            task.nanos += elapsed;
+            task.runs++;
+        }
+        stage.next = first;
+    }
+
+    @SubscribeEvent
+    public static void onRenderFramePost(RenderFrameEvent.Post event) {
+        boolean ranAny = false;
+        Job job;
+        while ((!ranAny || !isOverBudget()) && (job = DEFERRED.poll()) != null) {
+            long start = System.nanoTime();
+            try {
+                job.work.run();
+            } catch (Exception e) {
+                LOGGER.error("Deferred render job {} failed", job.name, e);
+            }
+            long elapsed = System.nanoTime() - start;
+            spentNanos += elapsed;
+            deferredNanos += elapsed;
+            deferredRuns++;
+            ranAny = true;
+        }
+        if (isOverBudget()) {
+            overBudgetFrames++;
+        }
+    }
+
+    private static boolean isOverBudget() {
+        return spentNanos > budgetNanos;
+    }
+
+    /**
+     * Summary for debug output: one line per task, then the deferred queue.
+     */
+    public static String getStats() {
+        StringBuilder stats = new StringBuilder("Render stage dispatcher:");
+        for (Map.Entry<RenderLevelStageEvent.Stage, StageTasks> entry : STAGES.entrySet()) {
+            for (Task task : entry.getValue().tasks) {
+                double averageMicros = task.runs == 0 ? 0.0 : task.nanos / 1000.0 / task.runs;
+                stats.append(String.format("%n  %s @ %s: %d runs (%.1f us avg), %d deferred",
+                    task.name, entry.getKey(), task.runs, averageMicros, task.skips));
+            }
+        }
+        double averageMicros = deferredRuns == 0 ? 0.0 : deferredNanos / 1000.0 / deferredRuns;
+        stats.append(String.format("%n  deferred jobs: %d queued, %d run (%.1f us avg), %d frames over budget",
+            DEFERRED.size(), deferredRuns, averageMicros, overBudgetFrames));
+        return stats.toString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.createlittlecontraptions.mixins;
+
+import com.createlittlecontraptions.compat.create.ContraptionLightCache;
+import net.minecraft.client.multiplayer.ClientChunkCache;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.LightLayer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Forwards client light updates to ContraptionLightCache so cached contraption light is dropped
+ * only for sections whose light actually changed.
+ */
+@Mixin(ClientChunkCache.class)
+public abstract class ClientChunkCacheMixin {
+
+    @Inject(method = "onLightUpdate", at = @At("TAIL"))
+    private void clc_invalidateContraptionLight(LightLayer layer, SectionPos pos, CallbackInfo ci) {
+        ContraptionLightCache.onLightUpdate(pos);
+    }
+}
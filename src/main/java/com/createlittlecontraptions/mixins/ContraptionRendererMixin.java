@@ -16,6 +16,7 @@ import org.joml.Matrix4f;
 
 import com.simibubi.create.foundation.virtualWorld.VirtualRenderWorld;
 import com.createlittlecontraptions.utils.LittleTilesHelper;
+import com.createlittlecontraptions.utils.LogRateLimiter;
 import com.createlittlecontraptions.utils.RenderContext;
 import com.createlittlecontraptions.compat.littletiles.LittleTilesContraptionRenderer;
 import team.creative.littletiles.common.block.entity.BETiles;
@@ -25,6 +26,8 @@ import org.apache.logging.log4j.Logger;
 
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Mixin to intercept BlockEntity rendering in Create contraptions and provide custom rendering for LittleTiles.
  * This targets the BlockEntityRenderHelper.renderBlockEntities method in Create mod.
@@ -40,19 +43,13 @@ public class ContraptionRendererMixin {
     private static final Logger LOGGER = LogManager.getLogger("CreateLittleContraptions/Mixin");
     
     // Throttling for logging - only log once every 10 seconds
-    private static long lastLogTime = 0;
-    private static final long LOG_INTERVAL_MS = 10000; // 10 seconds
+    private static final LogRateLimiter RENDER_LOG = LogRateLimiter.every("Mixin/renderBlockEntities", 10, TimeUnit.SECONDS);
     
     /**
      * Check if enough time has passed to allow logging (throttling)
      */
     private static boolean shouldLog() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastLogTime >= LOG_INTERVAL_MS) {
-            lastLogTime = currentTime;
-            return true;
-        }
-        return false;
+        return RENDER_LOG.tryAcquire();
     }
 
     private static final String RENDER_BLOCK_ENTITIES_METHOD_SIGNATURE =        "(Lnet/minecraft/world/level/Level;" +
@@ -0,0 +1,38 @@
+package com.createlittlecontraptions.mixins;
+
+import com.createlittlecontraptions.compat.littletiles.LittleTilesAssemblyCapture;
+import com.createlittlecontraptions.compat.littletiles.LittleTilesBlockIndex;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Keeps LittleTilesBlockIndex in sync with block entities being added to or removed from a loaded chunk,
+ * and lets LittleTilesAssemblyCapture snapshot a LittleTiles block before it is removed.
+ */
+@Mixin(LevelChunk.class)
+public abstract class LevelChunkMixin {
+
+    @Inject(method = "setBlockEntity", at = @At("TAIL"))
+    private void clc_indexBlockEntity(BlockEntity blockEntity, CallbackInfo ci) {
+        LittleTilesBlockIndex.onBlockEntityAdded(((LevelChunk) (Object) this).getLevel(), blockEntity);
+    }
+
+    @Inject(method = "removeBlockEntity", at = @At("HEAD"))
+    private void clc_captureBlockEntity(BlockPos pos, CallbackInfo ci) {
+        LevelChunk chunk = (LevelChunk) (Object) this;
+        BlockEntity blockEntity = chunk.getBlockEntities().get(pos);
+        if (blockEntity != null) {
+            LittleTilesAssemblyCapture.onBlockEntityRemoving(chunk.getLevel(), blockEntity);
+        }
+    }
+
+    @Inject(method = "removeBlockEntity", at = @At("TAIL"))
+    private void clc_unindexBlockEntity(BlockPos pos, CallbackInfo ci) {
+        LittleTilesBlockIndex.onBlockEntityRemoved(((LevelChunk) (Object) this).getLevel(), pos);
+    }
+}
@@ -0,0 +1,31 @@
+package com.createlittlecontraptions.mixins.create;
+
+import com.createlittlecontraptions.compat.littletiles.LittleTilesCollisionCache;
+import com.simibubi.create.content.contraptions.Contraption;
+import com.simibubi.create.content.contraptions.ContraptionCollider;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.List;
+
+/**
+ * Gives moving LittleTiles blocks their tile collision shapes. Create asks each block state for its
+ * shape in the real world at the block's local position, where a LittleTiles block has no tiles; for
+ * contraptions carrying such blocks the scan is answered by LittleTilesCollisionCache instead.
+ */
+@Mixin(value = ContraptionCollider.class, remap = false)
+public abstract class ContraptionColliderMixin {
+
+    @Inject(method = "getPotentiallyCollidedShapes", at = @At("HEAD"), cancellable = true)
+    private static void clc_littleTilesShapes(Level world, Contraption contraption, AABB localBB,
+                                              CallbackInfoReturnable<List<VoxelShape>> cir) {
+        if (LittleTilesCollisionCache.carriesTiles(contraption)) {
+            cir.setReturnValue(LittleTilesCollisionCache.getPotentiallyCollidedShapes(world, contraption, localBB));
+        }
+    }
+}
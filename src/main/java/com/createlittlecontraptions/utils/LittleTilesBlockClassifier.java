@@ -0,0 +1,119 @@
+package com.createlittlecontraptions.utils;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import team.creative.littletiles.common.block.entity.BETiles;
+import team.creative.littletiles.common.block.mc.BlockTile;
+
+import java.util.BitSet;
+
+/**
+ * Single place that decides whether a block belongs to LittleTiles.
+ *
+ * Once the registries are frozen every BlockState of a block in the {@code littletiles} namespace,
+ * or of a {@link BlockTile} (the block behind every BETiles), gets its bit set in a BitSet indexed by
+ * {@link Block#BLOCK_STATE_REGISTRY} id, so a check is a single lookup without allocation.
+ */
+public final class LittleTilesBlockClassifier {
+
+    private static final Logger LOGGER = LogManager.getLogger("CreateLittleContraptions/LTClassifier");
+    private static final String NAMESPACE = "littletiles";
+
+    private static volatile BitSet states;
+    private static volatile int builtForSize = -1;
+
+    private LittleTilesBlockClassifier() {
+    }
+
+    /**
+     * Builds the state bitset. Called from common setup; rebuilt on demand if the state registry
+     * changed size since (registry sync on join).
+     */
+    public static synchronized void build() {
+        int size = Block.BLOCK_STATE_REGISTRY.size();
+        BitSet bits = new BitSet(size);
+        int blocks = 0;
+
+        for (Block block : BuiltInRegistries.BLOCK) {
+            if (!isLittleTilesOwned(block)) {
+                continue;
+            }
+            blocks++;
+            for (BlockState state : block.getStateDefinition().getPossibleStates()) {
+                int id = Block.getId(state);
+                if (id >= 0) {
+                    bits.set(id);
+                }
+            }
+        }
+
+        states = bits;
+        builtForSize = size;
+        LOGGER.debug("Classified {} LittleTiles blocks ({} states of {})", blocks, bits.cardinality(), size);
+    }
+
+    public static boolean isLittleTilesBlock(BlockState state) {
+        if (state == null) {
+            return false;
+        }
+        BitSet bits = states;
+        if (bits == null || builtForSize != Block.BLOCK_STATE_REGISTRY.size()) {
+            build();
+            bits = states;
+        }
+        int id = Block.getId(state);
+        return id >= 0 && bits.get(id);
+    }
+
+    public static boolean isLittleTilesBlock(Block block) {
+        return block != null && isLittleTilesBlock(block.defaultBlockState());
+    }
+
+    public static boolean isLittleTilesBlock(StructureTemplate.StructureBlockInfo info) {
+        return info != null && isLittleTilesBlock(info.state());
+    }
+
+    /**
+     * Classifies a block by registry id, e.g. {@code "littletiles:tiles"}. Unknown ids are not LittleTiles.
+     */
+    public static boolean isLittleTilesBlock(String blockId) {
+        ResourceLocation id = blockId != null ? ResourceLocation.tryParse(blockId) : null;
+        if (id == null) {
+            return false;
+        }
+        return BuiltInRegistries.BLOCK.getOptional(id).map(LittleTilesBlockClassifier::isLittleTilesBlock).orElse(false);
+    }
+
+    /**
+     * For values of unknown type, such as entries of a contraption's block map obtained by reflection.
+     */
+    public static boolean isLittleTilesBlock(Object value) {
+        if (value instanceof BlockState state) {
+            return isLittleTilesBlock(state);
+        }
+        if (value instanceof StructureTemplate.StructureBlockInfo info) {
+            return isLittleTilesBlock(info);
+        }
+        if (value instanceof Block block) {
+            return isLittleTilesBlock(block);
+        }
+        if (value instanceof BlockEntity blockEntity) {
+            return blockEntity instanceof BETiles;
+        }
+        return false;
+    }
+
+    private static boolean isLittleTilesOwned(Block block) {
+        if (block instanceof BlockTile) {
+            return true;
+        }
+        ResourceLocation id = BuiltInRegistries.BLOCK.getKey(block);
+        return NAMESPACE.equals(id.getNamespace());
+    }
+}
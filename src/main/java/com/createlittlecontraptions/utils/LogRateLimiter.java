@@ -0,0 +1,113 @@
+package com.createlittlecontraptions.utils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket for one log call site. Declare one per call site (or per closely related group of
+ * messages) as a static final field and guard the log statement with it:
+ *
+ * <pre>
+ * private static final LogRateLimiter RENDER_LOG = LogRateLimiter.every("LTRenderer/render", 10, TimeUnit.SECONDS);
+ * ...
+ * if (RENDER_LOG.tryAcquire()) {
+ *     LOGGER.info("Rendered {} ({} similar messages suppressed)", pos, RENDER_LOG.takeSuppressed());
+ * }
+ * </pre>
+ *
+ * {@link #tryAcquire()} is a single CAS on {@link System#nanoTime()} state and never allocates, so a
+ * denied call costs no formatting or I/O and is safe from any thread. Denied calls are counted.
+ */
+public final class LogRateLimiter {
+
+    private static final List<LogRateLimiter> ALL = new CopyOnWriteArrayList<>();
+
+    private final String name;
+    private final long intervalNanos;
+    /** How far ahead of now the next free slot may be while still granting, i.e. (burst - 1) intervals. */
+    private final long toleranceNanos;
+    /** Theoretical time the bucket is full again (GCRA). */
+    private final AtomicLong nextFree = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong suppressed = new AtomicLong();
+    private final AtomicLong suppressedTotal = new AtomicLong();
+
+    private LogRateLimiter(String name, int burst, long intervalNanos) {
+        this.name = name;
+        this.intervalNanos = intervalNanos;
+        this.toleranceNanos = (long) (burst - 1) * intervalNanos;
+    }
+
+    /**
+     * At most one message per interval.
+     */
+    public static LogRateLimiter every(String name, long interval, TimeUnit unit) {
+        return create(name, 1, interval, unit);
+    }
+
+    /**
+     * Up to {@code burst} messages at once, refilled at one per interval.
+     */
+    public static LogRateLimiter create(String name, int burst, long interval, TimeUnit unit) {
+        if (burst < 1 || interval <= 0) {
+            throw new IllegalArgumentException("burst and interval must be positive");
+        }
+        LogRateLimiter limiter = new LogRateLimiter(name, burst, unit.toNanos(interval));
+        ALL.add(limiter);
+        return limiter;
+    }
+
+    /**
+     * Takes a token if one is available. Returns false, and counts the message as suppressed, otherwise.
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        while (true) {
+            long free = nextFree.get();
+            long start = Math.max(free, now);
+            if (start - now > toleranceNanos) {
+                suppressed.incrementAndGet();
+                suppressedTotal.incrementAndGet();
+                return false;
+            }
+            if (nextFree.compareAndSet(free, start + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Messages suppressed since the last call; resets the count.
+     */
+    public long takeSuppressed() {
+        return suppressed.getAndSet(0);
+    }
+
+    public long getSuppressedTotal() {
+        return suppressedTotal.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Summary of all limiters that have suppressed anything, for debug output.
+     */
+    public static String getStats() {
+        StringBuilder stats = new StringBuilder("Log rate limiters:");
+        long total = 0;
+        for (LogRateLimiter limiter : ALL) {
+            long count = limiter.getSuppressedTotal();
+            if (count > 0) {
+                stats.append("\n  ").append(limiter.name).append(": ").append(count).append(" suppressed");
+                total += count;
+            }
+        }
+        if (total == 0) {
+            stats.append(" nothing suppressed");
+        }
+        return stats.toString();
+    }
+}
@@ -0,0 +1,264 @@
+package com.createlittlecontraptions.utils;
+
+import net.minecraft.nbt.ByteArrayTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.DoubleTag;
+import net.minecraft.nbt.FloatTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.nbt.NumericTag;
+import net.minecraft.nbt.Tag;
+
+/**
+ * 128-bit fingerprint and exact encoded size of an NBT tree, computed in one streaming pass:
+ *
+ * <pre>
+ * NbtFingerprint fingerprint = NbtFingerprint.of(context.blockEntityData);
+ * fingerprint.getEncodedSize(); // bytes NbtIo.write would produce, without building SNBT
+ * </pre>
+ *
+ * Values are fed straight into the hash: strings char by char, arrays from the tag's own backing
+ * array, so nothing is copied or converted to text. Compound entries are hashed independently and
+ * combined with a commutative sum, which gives every key order the same result as canonical
+ * (sorted) order without sorting the keys. Equal trees always fingerprint the same; unequal trees
+ * collide with negligible probability, so the fingerprint alone is used as a cache key.
+ *
+ * The hash is MurmurHash3-style (x64, 128-bit lanes) and not meant to resist deliberate collisions.
+ */
+public final class NbtFingerprint {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+    private static final long SEED1 = 0x9e3779b97f4a7c15L;
+    private static final long SEED2 = 0xc2b2ae3d27d4eb4fL;
+
+    private final long high;
+    private final long low;
+    private final long encodedSize;
+
+    private NbtFingerprint(long high, long low, long encodedSize) {
+        this.high = high;
+        this.low = low;
+        this.encodedSize = encodedSize;
+    }
+
+    /**
+     * Fingerprint of a root compound. A null tag fingerprints like an empty one.
+     */
+    public static NbtFingerprint of(CompoundTag tag) {
+        Hasher hasher = new Hasher();
+        // NbtIo.write: type id, empty root name, payload
+        hasher.size += 1 + 2;
+        hasher.tag(tag != null ? tag : new CompoundTag());
+        hasher.finish();
+        return new NbtFingerprint(hasher.h1, hasher.h2, hasher.size);
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * Exact size in bytes of the uncompressed binary encoding written by {@code NbtIo.write}.
+     */
+    public long getEncodedSize() {
+        return encodedSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof NbtFingerprint other && high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (low ^ (low >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+
+    /**
+     * Running hash state. The lanes of an enclosing compound are kept on the Java stack while its
+     * entries are hashed, so the walk needs no buffers.
+     */
+    private static final class Hasher {
+        long h1 = SEED1;
+        long h2 = SEED2;
+        long size = 0;
+
+        void tag(Tag tag) {
+            byte type = tag.getId();
+            word(type);
+            switch (type) {
+                case Tag.TAG_BYTE -> {
+                    size += 1;
+                    word(((NumericTag) tag).getAsLong());
+                }
+                case Tag.TAG_SHORT -> {
+                    size += 2;
+                    word(((NumericTag) tag).getAsLong());
+                }
+                case Tag.TAG_INT -> {
+                    size += 4;
+                    word(((NumericTag) tag).getAsLong());
+                }
+                case Tag.TAG_LONG -> {
+                    size += 8;
+                    word(((NumericTag) tag).getAsLong());
+                }
+                case Tag.TAG_FLOAT -> {
+                    size += 4;
+                    word(Float.floatToIntBits(((FloatTag) tag).getAsFloat()));
+                }
+                case Tag.TAG_DOUBLE -> {
+                    size += 8;
+                    word(Double.doubleToLongBits(((DoubleTag) tag).getAsDouble()));
+                }
+                case Tag.TAG_BYTE_ARRAY -> byteArray(((ByteArrayTag) tag).getAsByteArray());
+                case Tag.TAG_STRING -> string(tag.getAsString());
+                case Tag.TAG_LIST -> list((ListTag) tag);
+                case Tag.TAG_COMPOUND -> compound((CompoundTag) tag);
+                case Tag.TAG_INT_ARRAY -> intArray(((IntArrayTag) tag).getAsIntArray());
+                case Tag.TAG_LONG_ARRAY -> longArray(((LongArrayTag) tag).getAsLongArray());
+                default -> {
+                    // TAG_END has no payload
+                }
+            }
+        }
+
+        private void compound(CompoundTag compound) {
+            long outer1 = h1;
+            long outer2 = h2;
+            long sum1 = 0;
+            long sum2 = 0;
+            for (String key : compound.getAllKeys()) {
+                Tag value = compound.get(key);
+                // Entry: type id, key, payload
+                size += 1;
+                h1 = SEED1;
+                h2 = SEED2;
+                string(key);
+                tag(value);
+                finish();
+                sum1 += h1;
+                sum2 += h2;
+            }
+            // Closing TAG_END
+            size += 1;
+            h1 = outer1;
+            h2 = outer2;
+            word(compound.size());
+            word(sum1);
+            word(sum2);
+        }
+
+        private void list(ListTag list) {
+            // Element type and length
+            size += 1 + 4;
+            word(list.getElementType());
+            word(list.size());
+            for (int i = 0; i < list.size(); i++) {
+                // Elements are encoded without their own type id; tag() only counts payload bytes
+                tag(list.get(i));
+            }
+        }
+
+        private void string(String value) {
+            int length = value.length();
+            long utf = 0;
+            long packed = 0;
+            int inWord = 0;
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                // Modified UTF-8, as written by DataOutput.writeUTF
+                utf += c != 0 && c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+                packed = (packed << 16) | c;
+                if (++inWord == 4) {
+                    word(packed);
+                    packed = 0;
+                    inWord = 0;
+                }
+            }
+            if (inWord > 0) {
+                word(packed);
+            }
+            word(length);
+            size += 2 + utf;
+        }
+
+        private void byteArray(byte[] data) {
+            size += 4 + data.length;
+            word(data.length);
+            long packed = 0;
+            int inWord = 0;
+            for (byte b : data) {
+                packed = (packed << 8) | (b & 0xFF);
+                if (++inWord == 8) {
+                    word(packed);
+                    packed = 0;
+                    inWord = 0;
+                }
+            }
+            if (inWord > 0) {
+                word(packed);
+            }
+        }
+
+        private void intArray(int[] data) {
+            size += 4 + 4L * data.length;
+            word(data.length);
+            for (int i = 0; i + 1 < data.length; i += 2) {
+                word(((long) data[i] << 32) | (data[i + 1] & 0xFFFFFFFFL));
+            }
+            if ((data.length & 1) != 0) {
+                word(data[data.length - 1]);
+            }
+        }
+
+        private void longArray(long[] data) {
+            size += 4 + 8L * data.length;
+            word(data.length);
+            for (long value : data) {
+                word(value);
+            }
+        }
+
+        private void word(long k) {
+            long k1 = Long.rotateLeft(k * C1, 31) * C2;
+            h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            long k2 = Long.rotateLeft(k * C2, 33) * C1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        void finish() {
+            h1 += h2;
+            h2 += h1;
+            h1 = fmix(h1);
+            h2 = fmix(h2);
+            h1 += h2;
+            h2 += h1;
+        }
+
+        private static long fmix(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
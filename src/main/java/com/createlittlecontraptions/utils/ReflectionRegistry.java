@@ -0,0 +1,310 @@
+package com.createlittlecontraptions.utils;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import team.creative.littletiles.client.render.block.BERenderManager;
+import team.creative.littletiles.client.render.tile.LittleRenderBox;
+import team.creative.littletiles.common.block.entity.BETiles;
+import team.creative.littletiles.common.block.little.tile.LittleTile;
+import team.creative.littletiles.common.block.little.tile.parent.BlockParentCollection;
+import team.creative.littletiles.common.grid.LittleGrid;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Single place where every reflective LittleTiles/Create/Minecraft member used by the mod is resolved.
+ *
+ * Members with a known owner are resolved once into {@code static final} method handles when this class
+ * initializes ({@link #bootstrap()}), so hot paths call through constants the JIT can inline. Members whose
+ * owner is only known at runtime (e.g. Create entity subclasses) go through {@link ClassValue} caches.
+ * Missing members are cached as well - a null handle means "not present", never "not looked up yet".
+ */
+public final class ReflectionRegistry {
+
+    private static final Logger LOGGER = LogManager.getLogger("CreateLittleContraptions/Reflection");
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final Map<String, Optional<Class<?>>> CLASSES = new ConcurrentHashMap<>();
+    private static final List<String> RESOLVED = new ArrayList<>();
+    private static final List<String> MISSING = new ArrayList<>();
+
+    // --- LittleTiles: BlockParentCollection ---
+    public static final MethodHandle PARENT_RENDER = resolve("BlockParentCollection.render(PoseStack, MultiBufferSource, int, int, float)",
+        () -> findMethod(BlockParentCollection.class, "render", PoseStack.class, MultiBufferSource.class, int.class, int.class, float.class));
+    public static final MethodHandle PARENT_RENDER_WITH_GRID = resolve("BlockParentCollection.render(PoseStack, LittleGrid, MultiBufferSource, int, int)",
+        () -> findMethod(BlockParentCollection.class, "render", PoseStack.class, LittleGrid.class, MultiBufferSource.class, int.class, int.class));
+    public static final MethodHandle PARENT_GET_RENDERING_BOX = resolve("BlockParentCollection.getRenderingBox(3)",
+        () -> findMethodByArity(BlockParentCollection.class, "getRenderingBox", 3));
+    public static final MethodHandle PARENT_BE_ACCESSOR = resolve("BlockParentCollection BETiles accessor",
+        () -> firstNonNull(
+            () -> findFirstMethod(BlockParentCollection.class, new String[] {"getBe", "getBlockEntity", "getTiles"}),
+            () -> findFieldGetter(BlockParentCollection.class, field -> field.getType().getName().contains("BETiles")
+                || field.getName().toLowerCase().contains("be") || field.getName().toLowerCase().contains("tiles"))));
+    public static final MethodHandle PARENT_OWNER_FIELD = resolve("BlockParentCollection owner field",
+        () -> findFirstDeclaredGetter(BlockParentCollection.class, "be", "blockEntity", "owner", "parent", "tiles"));
+
+    // --- LittleTiles: LittleTile boxes ---
+    public static final List<NamedHandle> TILE_BOX_ACCESSORS = resolveAll("LittleTile box accessors",
+        LittleTile.class, "getBoxes", "boxes", "getAllBoxes", "iterator", "stream");
+    public static final MethodHandle TILE_BOXES_FIELD = resolve("LittleTile.boxes",
+        () -> findDeclaredGetter(LittleTile.class, "boxes"));
+
+    // --- LittleTiles: LittleRenderBox draw methods ---
+    public static final MethodHandle RENDER_BOX_RENDER_TO_BUFFER = resolve("LittleRenderBox.renderToBuffer(8)",
+        () -> findMethod(LittleRenderBox.class, "renderToBuffer", PoseStack.Pose.class, VertexConsumer.class,
+            int.class, int.class, float.class, float.class, float.class, float.class));
+    public static final MethodHandle RENDER_BOX_BUFFER = resolve("LittleRenderBox.buffer(VertexConsumer, Pose)",
+        () -> findMethod(LittleRenderBox.class, "buffer", VertexConsumer.class, PoseStack.Pose.class));
+    public static final MethodHandle RENDER_BOX_TESSELLATE = resolve("LittleRenderBox.tessellate(VertexConsumer)",
+        () -> findMethod(LittleRenderBox.class, "tessellate", VertexConsumer.class));
+    public static final MethodHandle RENDER_BOX_ADD_QUADS = resolve("LittleRenderBox.addQuads(VertexConsumer)",
+        () -> findMethod(LittleRenderBox.class, "addQuads", VertexConsumer.class));
+
+    // --- LittleTiles: BETiles / BERenderManager ---
+    public static final MethodHandle BE_RENDER_MANAGER = resolve("BETiles render manager accessor",
+        () -> firstNonNull(
+            () -> findFirstMethod(BETiles.class, new String[] {"getRenderManager", "getManager", "renderManager"}),
+            () -> findFieldGetter(BETiles.class, field -> field.getType().getName().contains("BERenderManager")
+                || field.getName().toLowerCase().contains("render"))));
+    public static final MethodHandle BE_RENDER_FIELD = resolve("BETiles.render",
+        () -> findDeclaredGetter(BETiles.class, "render"));
+    public static final MethodHandle BE_TILES_FIELD = resolve("BETiles.tiles",
+        () -> findDeclaredGetter(BETiles.class, "tiles"));
+    public static final MethodHandle BE_IS_CLIENT = resolve("BETiles.isClient()",
+        () -> findMethod(BETiles.class, "isClient"));
+    public static final MethodHandle BLOCK_ENTITY_LEVEL = resolve("BlockEntity.level",
+        () -> findDeclaredGetter(BlockEntity.class, "level"));
+    public static final MethodHandle LEVEL_IS_CLIENT_SIDE = resolve("Level.isClientSide()",
+        () -> findMethod(Level.class, "isClientSide"));
+    public static final MethodHandle RENDER_MANAGER_GET_RENDERING_BOXES = resolve("BERenderManager.getRenderingBoxes(RenderingBlockContext)",
+        () -> {
+            Class<?> contextClass = findClass("team.creative.littletiles.client.render.cache.build.RenderingBlockContext");
+            return contextClass == null ? null : findMethod(BERenderManager.class, "getRenderingBoxes", contextClass);
+        });
+
+    // --- Minecraft / Create ---
+    /** Contraption accessor of a contraption entity class: public getter first, then a declared field. */
+    public static final ClassValue<Optional<MethodHandle>> ENTITY_CONTRAPTION = classValue(type -> firstNonNull(
+        () -> findFirstMethod(type, new String[] {"getContraption", "contraption", "getMovingContraption", "getCarriedContraption"}),
+        () -> findFirstDeclaredGetter(type, "contraption", "carriedContraption", "movingContraption")));
+
+    /** Block map accessor of a contraption class: "get*" names as public methods, the rest as public fields. */
+    public static final ClassValue<Optional<MethodHandle>> CONTRAPTION_BLOCKS = classValue(type -> {
+        for (String getter : new String[] {"getBlocks", "blocks", "getBlockData", "blockData", "getAllBlocks"}) {
+            MethodHandle handle = getter.startsWith("get") ? findMethod(type, getter) : findPublicGetter(type, getter);
+            if (handle != null) {
+                return handle;
+            }
+        }
+        return null;
+    });
+
+    /** {@code getBlockEntity()} on a contraption block info class. */
+    public static final ClassValue<Optional<MethodHandle>> BLOCK_DATA_BLOCK_ENTITY = classValue(type -> findMethod(type, "getBlockEntity"));
+
+    /** {@code getBlockEntity(Object)} on a contraption class. */
+    public static final ClassValue<Optional<MethodHandle>> CONTRAPTION_BLOCK_ENTITY = classValue(type -> findMethod(type, "getBlockEntity", Object.class));
+
+    /** Declared methods per class, for the debug scans that only list names. */
+    public static final ClassValue<List<Method>> DECLARED_METHODS = new ClassValue<>() {
+        @Override
+        protected List<Method> computeValue(Class<?> type) {
+            try {
+                return List.of(type.getDeclaredMethods());
+            } catch (Throwable e) {
+                return List.of();
+            }
+        }
+    };
+
+    private ReflectionRegistry() {
+    }
+
+    /**
+     * A resolved member together with the name it was found under.
+     */
+    public record NamedHandle(String name, MethodHandle handle) {
+    }
+
+    /**
+     * Forces resolution of all constant handles and logs what was found.
+     * Called once from CreateRuntimeIntegration when the integration is set up.
+     */
+    public static synchronized void bootstrap() {
+        LOGGER.info("Reflection registry ready: {} members resolved, {} not present", RESOLVED.size(), MISSING.size());
+        if (!MISSING.isEmpty()) {
+            LOGGER.debug("Members not present in this LittleTiles/Create version: {}", MISSING);
+        }
+    }
+
+    /**
+     * Class.forName with the result (including absence) cached.
+     */
+    public static Class<?> findClass(String name) {
+        return CLASSES.computeIfAbsent(name, n -> {
+            try {
+                return Optional.of(Class.forName(n));
+            } catch (ClassNotFoundException | LinkageError e) {
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
+    /**
+     * Returns the first of the given classes that exists, or null.
+     */
+    public static Class<?> findFirstClass(String... names) {
+        for (String name : names) {
+            Class<?> type = findClass(name);
+            if (type != null) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandle resolve(String description, Supplier<MethodHandle> resolver) {
+        MethodHandle handle;
+        try {
+            handle = resolver.get();
+        } catch (Throwable e) {
+            handle = null;
+        }
+        synchronized (ReflectionRegistry.class) {
+            (handle != null ? RESOLVED : MISSING).add(description);
+        }
+        return handle;
+    }
+
+    private static List<NamedHandle> resolveAll(String description, Class<?> owner, String... names) {
+        List<NamedHandle> handles = new ArrayList<>();
+        for (String name : names) {
+            MethodHandle handle = resolve(description + ": " + name, () -> findMethod(owner, name));
+            if (handle != null) {
+                handles.add(new NamedHandle(name, handle));
+            }
+        }
+        return List.copyOf(handles);
+    }
+
+    private static ClassValue<Optional<MethodHandle>> classValue(Function<Class<?>, MethodHandle> resolver) {
+        return new ClassValue<>() {
+            @Override
+            protected Optional<MethodHandle> computeValue(Class<?> type) {
+                try {
+                    return Optional.ofNullable(resolver.apply(type));
+                } catch (Throwable e) {
+                    return Optional.empty();
+                }
+            }
+        };
+    }
+
+    @SafeVarargs
+    private static MethodHandle firstNonNull(Supplier<MethodHandle>... resolvers) {
+        for (Supplier<MethodHandle> resolver : resolvers) {
+            MethodHandle handle = resolver.get();
+            if (handle != null) {
+                return handle;
+            }
+        }
+        return null;
+    }
+
+    /** Public method (including inherited), like {@link Class#getMethod}. */
+    private static MethodHandle findMethod(Class<?> owner, String name, Class<?>... parameterTypes) {
+        try {
+            return LOOKUP.unreflect(owner.getMethod(name, parameterTypes));
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle findFirstMethod(Class<?> owner, String[] names, Class<?>... parameterTypes) {
+        for (String name : names) {
+            MethodHandle handle = findMethod(owner, name, parameterTypes);
+            if (handle != null) {
+                return handle;
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandle findMethodByArity(Class<?> owner, String name, int arity) {
+        for (Method method : owner.getMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == arity) {
+                try {
+                    return LOOKUP.unreflect(method);
+                } catch (IllegalAccessException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /** Declared field of exactly this class, like {@link Class#getDeclaredField}, made accessible. */
+    private static MethodHandle findDeclaredGetter(Class<?> owner, String name) {
+        try {
+            return unreflectGetter(owner.getDeclaredField(name));
+        } catch (NoSuchFieldException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle findFirstDeclaredGetter(Class<?> owner, String... names) {
+        for (String name : names) {
+            MethodHandle handle = findDeclaredGetter(owner, name);
+            if (handle != null) {
+                return handle;
+            }
+        }
+        return null;
+    }
+
+    /** Public field (including inherited), like {@link Class#getField}. */
+    private static MethodHandle findPublicGetter(Class<?> owner, String name) {
+        try {
+            return unreflectGetter(owner.getField(name));
+        } catch (NoSuchFieldException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle findFieldGetter(Class<?> owner, Predicate<Field> filter) {
+        return Arrays.stream(owner.getDeclaredFields())
+            .filter(field -> !Modifier.isStatic(field.getModifiers()))
+            .filter(filter)
+            .map(ReflectionRegistry::unreflectGetter)
+            .filter(handle -> handle != null)
+            .findFirst()
+            .orElse(null);
+    }
+
+    private static MethodHandle unreflectGetter(Field field) {
+        try {
+            field.setAccessible(true);
+            return LOOKUP.unreflectGetter(field);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+}